@@ -0,0 +1,68 @@
+package com.sinsaimdang.masilkkoon.masil.auth.filter;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 요청마다 수행하는 경로별 인증 규칙 판정 비용 측정<br>
+ * 실제 규칙 표({@link JwtAuthenticationFilter#AUTH_ROUTES})와, 규칙 표 도입 전의 startsWith/정규식 검사를 같은 요청으로 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthRouteMatcherBenchmark {
+
+    // 이전 필터의 검사 방식 (로그 출력 제외)
+    private static final Pattern USER_PUBLIC_URI_PATTERN =
+            Pattern.compile("^/api/user/\\d+/(profile|articles|followers|followings)$");
+
+    @Param({
+            "POST /api/auth/login",
+            "GET /api/articles/123",
+            "GET /api/user/42/followers",
+            "PUT /api/user/profile",
+            "POST /api/articles/123/likes"
+    })
+    public String request;
+
+    private String method;
+    private String path;
+
+    @Setup
+    public void setUp() {
+        int space = request.indexOf(' ');
+        method = request.substring(0, space);
+        path = request.substring(space + 1);
+    }
+
+    @Benchmark
+    public AuthRequirement routeMatcher() {
+        return JwtAuthenticationFilter.AUTH_ROUTES.match(method, path);
+    }
+
+    @Benchmark
+    public boolean legacyChecks() {
+        if ("GET".equalsIgnoreCase(method) && path.startsWith("/api/articles")) {
+            return true;
+        }
+        if ("GET".equalsIgnoreCase(method) && USER_PUBLIC_URI_PATTERN.matcher(path).matches()) {
+            return true;
+        }
+        String[] publicPaths = {
+                "/api/auth/signup",
+                "/api/auth/login",
+                "/api/auth/refresh",
+                "/api/auth/check-email",
+                "/api/auth/check-nickname",
+                "/api/directions"
+        };
+        for (String publicPath : publicPaths) {
+            if (path.startsWith(publicPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
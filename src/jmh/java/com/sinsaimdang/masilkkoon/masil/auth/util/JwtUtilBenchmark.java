@@ -0,0 +1,54 @@
+package com.sinsaimdang.masilkkoon.masil.auth.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access Token 파싱 비용 측정<br>
+ * parseAccessToken 한 번으로 모든 값을 꺼내는 경우와, 예전처럼 extractXxx 를 값마다 호출하는 경우를 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        setField("secret", "benchmark-secret-key-for-jwt-parsing-1234567890");
+        setField("accessTokenExpiration", 3_600_000L);
+        setField("refreshTokenExpiration", 86_400_000L);
+        setField("issuer", "benchmark");
+        jwtUtil.init();
+        token = jwtUtil.generateAccessToken(1L, "user@test.com", "이름", "닉네임", "USER");
+    }
+
+    // @Value 로 주입되는 설정값을 스프링 컨텍스트 없이 채움
+    private void setField(String name, Object value) {
+        Field field = ReflectionUtils.findField(JwtUtil.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, jwtUtil, value);
+    }
+
+    @Benchmark
+    public JwtClaims parseOnce() {
+        return jwtUtil.parseAccessToken(token);
+    }
+
+    @Benchmark
+    public void extractPerClaim(Blackhole bh) {
+        bh.consume(jwtUtil.extractUserId(token));
+        bh.consume(jwtUtil.extractUserEmail(token));
+        bh.consume(jwtUtil.extractUserName(token));
+        bh.consume(jwtUtil.extractUserNickname(token));
+        bh.consume(jwtUtil.extractUserRole(token));
+    }
+}
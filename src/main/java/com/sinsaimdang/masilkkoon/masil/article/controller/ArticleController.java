@@ -24,8 +24,11 @@ import java.util.Arrays;
 import java.util.ArrayList;
 
 import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleSearchCondition;
+import com.sinsaimdang.masilkkoon.masil.article.dto.CursorPageResponse;
+import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleCardResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import jakarta.validation.Valid;
 import com.sinsaimdang.masilkkoon.masil.auth.dto.CurrentUser;
@@ -39,6 +42,8 @@ import java.io.IOException;
 @Slf4j
 public class ArticleController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+
     private final ArticleService articleService; // ArticleService 주입
 
 //    /**
@@ -84,21 +89,29 @@ public class ArticleController {
 
     /**
      * 게시글 목록을 필터링하여 조회하는 API
-     * GET /api/articles?region=...&tags=...&page=...&size=...
+     * GET /api/articles?region=...&tags=...&page=...&size=...&withTotal=...
      * @param condition 검색 조건 (지역, 태그)
      * @param pageable 페이징 정보
+     * @param withTotal false 이면 전체 개수를 세지 않고 다음 페이지 존재 여부(hasNext)만 반환 (무한 스크롤용)
      * @return 필터링된 게시글 목록 (페이지네이션 포함)과 함께 HTTP 200 OK 응답 또는 오류 응답 (표준 응답 형식)
      */
     @GetMapping // 필터링
     public ResponseEntity<Map<String, Object>> getArticles( // 반환 타입을 Map<String, Object>로 변경
                                                             ArticleSearchCondition condition,
                                                             Pageable pageable,
+                                                            @RequestParam(defaultValue = "true") boolean withTotal,
                                                             CurrentUser currentUser) { // HttpServletRequest를 통해 요청 속성 접근
 
         log.info("게시글 목록 조회 요청 - 조건: {}, 페이징: {}, 요청자 ID: {}", condition, pageable, currentUser.getId());
 
         try {
-            Page<ArticleResponse> articlesPage = articleService.searchArticles(condition, pageable, currentUser.getId());
+            if (!withTotal) {
+                Slice<ArticleCardResponse> articlesSlice = articleService.searchArticlesSlice(condition, pageable, currentUser.getId());
+                log.info("게시글 목록(Slice) 조회 완료");
+                return ApiResponseUtil.success("게시글 목록 조회 성공", articlesSlice);
+            }
+
+            Page<ArticleCardResponse> articlesPage = articleService.searchArticles(condition, pageable, currentUser.getId());
             log.info("게시글 목록 조회 완료");
 
             // ▼▼▼ [수정] 이 부분도 ApiResponseUtil로 변경합니다 ▼▼▼
@@ -111,6 +124,43 @@ public class ArticleController {
         }
     }
 
+    /**
+     * 게시글 목록을 커서 기반으로 조회하는 API (무한 스크롤용)
+     * GET /api/articles/scroll?region=...&tags=...&sortOrder=...&cursor=...&size=...
+     * @param condition 검색 조건 (지역, 태그, 정렬)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 50)
+     * @return 게시글 목록과 다음 페이지 커서
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<Map<String, Object>> getArticlesByCursor(
+            ArticleSearchCondition condition,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            CurrentUser currentUser) {
+
+        log.info("게시글 커서 조회 요청 - 조건: {}, 크기: {}, 요청자 ID: {}", condition, size, currentUser.getId());
+
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            return ApiResponseUtil.badRequest("페이지 크기는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        try {
+            CursorPageResponse<ArticleCardResponse> articles =
+                    articleService.searchArticlesByCursor(condition, cursor, size, currentUser.getId());
+            log.info("게시글 커서 조회 완료");
+
+            return ApiResponseUtil.success("게시글 목록 조회 성공", articles);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("게시글 커서 조회 실패 - 사유: {}", e.getMessage());
+            return ApiResponseUtil.badRequest(e.getMessage());
+        } catch (Exception e) {
+            log.error("게시글 커서 조회 중 서버 오류 발생 - 조건: {}", condition, e);
+            return ApiResponseUtil.internalServerError("서버 내부 오류가 발생했습니다.");
+        }
+    }
+
     @PostMapping("/{articleId}/likes")
     public ResponseEntity<Map<String, Object>> addlike(
             @PathVariable Long articleId,
@@ -0,0 +1,54 @@
+package com.sinsaimdang.masilkkoon.masil.article.dto;
+
+import com.sinsaimdang.masilkkoon.masil.article.entity.ArticleTag;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록(카드)용 응답 DTO<br>
+ * 본문 전체와 장소 목록 대신 요약(excerpt)과 대표 사진(coverPhotoUrl)만 포함합니다.
+ * 게시글 전체 내용은 단건 조회({@link ArticleResponse})로 제공합니다.
+ */
+@Getter
+public class ArticleCardResponse {
+
+    private final Long id;
+    private final String title;
+    private final String excerpt;
+    private final String coverPhotoUrl;
+    private final String coverPhotoCardUrl; // 생성 전에는 null 이므로 클라이언트는 coverPhotoUrl 을 대신 사용
+    private final ArticleResponse.AuthorDto author;
+    private final String region;
+    private final List<ArticleTag> tags;
+    private final int scrapCount;
+    private final int likeCount;
+    private final int viewCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    private final Boolean isLiked;
+    private final Boolean isScrapped;
+
+    public ArticleCardResponse(ArticleListItem item, Collection<ArticleTag> tags, boolean isLiked, boolean isScrapped) {
+        this.id = item.getId();
+        this.title = item.getTitle();
+        this.excerpt = item.getExcerpt();
+        this.coverPhotoUrl = item.getCoverPhotoUrl();
+        this.coverPhotoCardUrl = item.getCoverPhotoCardUrl();
+        this.author = new ArticleResponse.AuthorDto(item.getAuthorId(), item.getAuthorNickname(), item.getAuthorRole(),
+                item.getAuthorProfileImageUrl(), item.getAuthorProfileImageThumbnailUrl());
+        this.region = item.getRegionName();
+        this.tags = tags.stream().distinct().collect(Collectors.toList());
+        this.scrapCount = item.getScrapCount();
+        this.likeCount = item.getLikeCount();
+        this.viewCount = item.getViewCount();
+        this.createdAt = item.getCreatedAt();
+        this.updatedAt = item.getUpdatedAt();
+        this.isLiked = isLiked;
+        this.isScrapped = isScrapped;
+    }
+}
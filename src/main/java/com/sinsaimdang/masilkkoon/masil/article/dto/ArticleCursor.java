@@ -0,0 +1,89 @@
+package com.sinsaimdang.masilkkoon.masil.article.dto;
+
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션에서 사용하는 커서<br>
+ * 마지막으로 조회한 게시글의 정렬 키(정렬 기준 값 + 생성일 + ID)를 담고 있으며,
+ * 클라이언트에는 Base64 URL 인코딩된 불투명한 문자열로 전달됩니다.
+ */
+@Getter
+public class ArticleCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final ArticleSortOrder sortOrder;
+    private final int sortValue;            // 좋아요/조회수/스크랩 수 (날짜 정렬에서는 0)
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private ArticleCursor(ArticleSortOrder sortOrder, int sortValue, LocalDateTime createdAt, Long id) {
+        this.sortOrder = sortOrder;
+        this.sortValue = sortValue;
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * 조회된 마지막 게시글로부터 다음 페이지 커서를 생성합니다.
+     */
+    public static ArticleCursor of(ArticleSortOrder sortOrder, ArticleListItem last) {
+        int sortValue;
+        switch (sortOrder) {
+            case LIKES:
+                sortValue = last.getLikeCount();
+                break;
+            case VIEWS:
+                sortValue = last.getViewCount();
+                break;
+            case SCRAPS:
+                sortValue = last.getScrapCount();
+                break;
+            default:
+                sortValue = 0;
+        }
+        return new ArticleCursor(sortOrder, sortValue, last.getCreatedAt(), last.getId());
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 해석합니다.
+     * @param encoded 커서 문자열 (비어있으면 첫 페이지)
+     * @param expectedSortOrder 요청의 정렬 기준
+     * @return 해석된 커서, 첫 페이지인 경우 null
+     * @throws IllegalArgumentException 커서 형식이 잘못되었거나 정렬 기준이 다른 경우
+     */
+    public static ArticleCursor decode(String encoded, ArticleSortOrder expectedSortOrder) {
+        if (!StringUtils.hasText(encoded)) {
+            return null;
+        }
+        ArticleCursor cursor;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            cursor = new ArticleCursor(
+                    ArticleSortOrder.valueOf(parts[0]),
+                    Integer.parseInt(parts[1]),
+                    LocalDateTime.parse(parts[2]),
+                    Long.parseLong(parts[3])
+            );
+        } catch (RuntimeException e) {
+            // Base64/숫자/날짜 형식 오류, 알 수 없는 정렬 기준, 항목 누락 등
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+
+        if (cursor.sortOrder != expectedSortOrder) {
+            throw new IllegalArgumentException("커서의 정렬 기준이 요청과 일치하지 않습니다.");
+        }
+        return cursor;
+    }
+
+    public String encode() {
+        String raw = sortOrder.name() + DELIMITER + sortValue + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
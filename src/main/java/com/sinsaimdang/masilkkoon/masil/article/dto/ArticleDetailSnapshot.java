@@ -0,0 +1,40 @@
+package com.sinsaimdang.masilkkoon.masil.article.dto;
+
+import com.sinsaimdang.masilkkoon.masil.article.entity.Article;
+import com.sinsaimdang.masilkkoon.masil.article.entity.ArticleTag;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 상세 정보 중 자주 바뀌지 않는 부분 (불변)<br>
+ * 제목/본문/작성자/지역/태그/장소만 담으며, 좋아요/스크랩/조회수와 사용자별 좋아요/스크랩 여부는
+ * 요청마다 따로 조회하여 {@link ArticleResponse} 로 합칩니다.
+ */
+@Getter
+public class ArticleDetailSnapshot {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final ArticleResponse.AuthorDto author;
+    private final String region;
+    private final List<ArticleTag> tags;
+    private final List<ArticlePlaceResponse> places;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public ArticleDetailSnapshot(Article article) {
+        this.id = article.getId();
+        this.title = article.getTitle();
+        this.content = article.getContent();
+        this.author = new ArticleResponse.AuthorDto(article.getUser());
+        this.region = article.getRegion().getName();
+        this.tags = List.copyOf(article.getArticleTags().stream().distinct().collect(Collectors.toList()));
+        this.places = List.copyOf(ArticlePlaceResponse.listOf(article.getArticlePlaces()));
+        this.createdAt = article.getCreatedAt();
+        this.updatedAt = article.getUpdatedAt();
+    }
+}
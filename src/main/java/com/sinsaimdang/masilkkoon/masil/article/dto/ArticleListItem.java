@@ -0,0 +1,54 @@
+package com.sinsaimdang.masilkkoon.masil.article.dto;
+
+import com.sinsaimdang.masilkkoon.masil.user.entity.UserRole;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회용 읽기 모델 (불변)<br>
+ * QueryDSL 생성자 프로젝션으로 바로 생성되므로 엔티티가 영속성 컨텍스트에 올라가지 않습니다.
+ */
+@Getter
+public class ArticleListItem {
+
+    private final Long id;
+    private final String title;
+    private final String excerpt;
+    private final String coverPhotoUrl;
+    private final String coverPhotoCardUrl;
+    private final Long authorId;
+    private final String authorNickname;
+    private final UserRole authorRole;
+    private final String authorProfileImageUrl;
+    private final String authorProfileImageThumbnailUrl;
+    private final String regionName;
+    private final int scrapCount;
+    private final int likeCount;
+    private final int viewCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public ArticleListItem(Long id, String title, String excerpt, String coverPhotoUrl, String coverPhotoCardUrl,
+                           Long authorId, String authorNickname, UserRole authorRole,
+                           String authorProfileImageUrl, String authorProfileImageThumbnailUrl,
+                           String regionName, int scrapCount, int likeCount, int viewCount,
+                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.coverPhotoUrl = coverPhotoUrl;
+        this.coverPhotoCardUrl = coverPhotoCardUrl;
+        this.authorId = authorId;
+        this.authorNickname = authorNickname;
+        this.authorRole = authorRole;
+        this.authorProfileImageUrl = authorProfileImageUrl;
+        this.authorProfileImageThumbnailUrl = authorProfileImageThumbnailUrl;
+        this.regionName = regionName;
+        this.scrapCount = scrapCount;
+        this.likeCount = likeCount;
+        this.viewCount = viewCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -3,18 +3,30 @@ package com.sinsaimdang.masilkkoon.masil.article.dto;
 import com.sinsaimdang.masilkkoon.masil.article.entity.ArticlePlace; // ArticlePlace 임포트
 import lombok.EqualsAndHashCode; // Lombok EqualsAndHashCode 임포트
 import lombok.Getter; // Lombok Getter
-import lombok.Setter; // Lombok Setter
 
-@Getter @Setter // Lombok Getter, Setter 자동 생성
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 장소 응답 (불변 - 상세 캐시에 저장되어 여러 응답이 같은 인스턴스를 공유하므로 수정할 수 없음)
+ */
+@Getter // Lombok Getter 자동 생성
 @EqualsAndHashCode(of = {"placeOrder", "placeName", "address"}) // 내용 기반으로 동일 객체 판단
 public class ArticlePlaceResponse {
 
-    private int placeOrder; // 장소 순서
-    private String placeName; // 장소 이름
-    private String address; // 장소 주소
-    private String description; // 장소 설명
+    private final int placeOrder; // 장소 순서
+    private final String placeName; // 장소 이름
+    private final String address; // 장소 주소
+    private final String description; // 장소 설명
+
+    private final String photoUrl;
 
-    private String photoUrl;
+    // 변형 이미지 URL (생성 전에는 null 이므로 클라이언트는 photoUrl 을 대신 사용)
+    private final String photoThumbnailUrl;
+    private final String photoCardUrl;
+    private final String photoWebUrl;
 
     // ArticlePlace 엔티티를 ArticlePlaceResponse DTO로 변환하는 생성자
     public ArticlePlaceResponse(ArticlePlace articlePlace) {
@@ -23,9 +35,17 @@ public class ArticlePlaceResponse {
         this.address = articlePlace.getAddress();
         this.description = articlePlace.getDescription();
         this.photoUrl = articlePlace.getPhotoUrl();
+        this.photoThumbnailUrl = articlePlace.getPhotoThumbnailUrl();
+        this.photoCardUrl = articlePlace.getPhotoCardUrl();
+        this.photoWebUrl = articlePlace.getPhotoWebUrl();
     }
 
-    // 기본 생성자 (필요시)
-    public ArticlePlaceResponse() {
+    // 게시글의 장소 목록을 중복 제거 후 장소 순서대로 변환 (상세 응답과 상세 캐시가 같은 변환을 사용)
+    public static List<ArticlePlaceResponse> listOf(Collection<ArticlePlace> articlePlaces) {
+        return articlePlaces.stream()
+                .map(ArticlePlaceResponse::new)
+                .distinct()
+                .sorted(Comparator.comparingInt(ArticlePlaceResponse::getPlaceOrder))
+                .collect(Collectors.toList());
     }
 }
\ No newline at end of file
@@ -1,13 +1,14 @@
 package com.sinsaimdang.masilkkoon.masil.article.dto;
 
 import com.sinsaimdang.masilkkoon.masil.article.entity.Article;
+import com.sinsaimdang.masilkkoon.masil.article.entity.ArticlePlace;
 import com.sinsaimdang.masilkkoon.masil.article.entity.ArticleTag;
 import com.sinsaimdang.masilkkoon.masil.user.entity.User;
 import com.sinsaimdang.masilkkoon.masil.user.entity.UserRole;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -32,22 +33,48 @@ public class ArticleResponse {
 
     // == 생성자 (Article 엔티티를 ArticleResponse DTO로 변환) == //
     public ArticleResponse(Article article, boolean isLiked, boolean isScrapped) {
+        this(article, 0, isLiked, isScrapped);
+    }
+
+    // 조회수 버퍼에 쌓여 아직 DB에 반영되지 않은 조회수를 더해서 변환
+    public ArticleResponse(Article article, long pendingViewCount, boolean isLiked, boolean isScrapped) {
+        this(article, article.getArticleTags(), article.getArticlePlaces(),
+                (int) Math.min(Integer.MAX_VALUE, article.getViewCount() + pendingViewCount), isLiked, isScrapped);
+    }
+
+    private ArticleResponse(Article article, Collection<ArticleTag> tags, Collection<ArticlePlace> places,
+                            int viewCount, boolean isLiked, boolean isScrapped) {
         this.id = article.getId();
         this.title = article.getTitle();
         this.content = article.getContent();
         this.author = new AuthorDto(article.getUser()); // User 엔티티로 AuthorDto 생성
         this.region = article.getRegion().getName();
-        this.tags = article.getArticleTags().stream().distinct().collect(Collectors.toList());
+        this.tags = tags.stream().distinct().collect(Collectors.toList());
         this.scrapCount = article.getScrapCount();
         this.likeCount = article.getLikeCount();
-        this.viewCount = article.getViewCount();
+        this.viewCount = viewCount;
         this.createdAt = article.getCreatedAt();
         this.updatedAt = article.getUpdatedAt();
-        this.places = article.getArticlePlaces().stream()
-                .map(ArticlePlaceResponse::new)
-                .distinct()
-                .sorted(Comparator.comparingInt(ArticlePlaceResponse::getPlaceOrder))
-                .collect(Collectors.toList());
+        this.places = ArticlePlaceResponse.listOf(places);
+        this.isLiked = isLiked;
+        this.isScrapped = isScrapped;
+    }
+
+    // 캐시된 상세 정보에 요청 시점의 카운터와 사용자별 좋아요/스크랩 여부를 합쳐서 변환
+    public ArticleResponse(ArticleDetailSnapshot detail, int scrapCount, int likeCount, int viewCount,
+                           boolean isLiked, boolean isScrapped) {
+        this.id = detail.getId();
+        this.title = detail.getTitle();
+        this.content = detail.getContent();
+        this.author = detail.getAuthor();
+        this.region = detail.getRegion();
+        this.tags = detail.getTags();
+        this.scrapCount = scrapCount;
+        this.likeCount = likeCount;
+        this.viewCount = viewCount;
+        this.places = detail.getPlaces();
+        this.createdAt = detail.getCreatedAt();
+        this.updatedAt = detail.getUpdatedAt();
         this.isLiked = isLiked;
         this.isScrapped = isScrapped;
     }
@@ -63,12 +90,18 @@ public class ArticleResponse {
         private final String nickname;
         private final UserRole role;
         private final String profileImageUrl;
+        private final String profileImageThumbnailUrl; // 생성 전에는 null
 
         public AuthorDto(User user) {
-            this.id = user.getId();
-            this.nickname = user.getNickname();
-            this.role = user.getRole();
-            this.profileImageUrl = user.getProfileImageUrl();
+            this(user.getId(), user.getNickname(), user.getRole(), user.getProfileImageUrl(), user.getProfileImageThumbnailUrl());
+        }
+
+        public AuthorDto(Long id, String nickname, UserRole role, String profileImageUrl, String profileImageThumbnailUrl) {
+            this.id = id;
+            this.nickname = nickname;
+            this.role = role;
+            this.profileImageUrl = profileImageUrl;
+            this.profileImageThumbnailUrl = profileImageThumbnailUrl;
         }
     }
 }
@@ -0,0 +1,47 @@
+package com.sinsaimdang.masilkkoon.masil.article.dto;
+
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+/**
+ * 게시글 목록 정렬 기준<br>
+ * 프론트엔드에서 전달하는 정렬 문자열("좋아요순", "조회수순" 등)을 정규화하여 사용합니다.
+ */
+@Getter
+public enum ArticleSortOrder {
+    LATEST("최신순"),
+    OLDEST("오래된순"),
+    LIKES("좋아요순"),
+    VIEWS("조회수순"),
+    SCRAPS("스크랩순");
+
+    private final String label;
+
+    ArticleSortOrder(String label) {
+        this.label = label;
+    }
+
+    /**
+     * 좋아요/조회수/스크랩 수처럼 자주 바뀌는 카운터 기준 정렬인지 여부
+     */
+    public boolean isCounterBased() {
+        return this == LIKES || this == VIEWS || this == SCRAPS;
+    }
+
+    /**
+     * 정렬 문자열을 정렬 기준으로 변환합니다.
+     * @param sortOrder 요청으로 전달된 정렬 문자열
+     * @return 일치하는 정렬 기준, 없거나 알 수 없는 값이면 최신순
+     */
+    public static ArticleSortOrder from(String sortOrder) {
+        if (!StringUtils.hasText(sortOrder)) {
+            return LATEST;
+        }
+        for (ArticleSortOrder value : values()) {
+            if (value.label.equals(sortOrder)) {
+                return value;
+            }
+        }
+        return LATEST;
+    }
+}
@@ -0,0 +1,25 @@
+package com.sinsaimdang.masilkkoon.masil.article.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답<br>
+ * 다음 페이지가 있으면 nextCursor 에 다음 요청에 사용할 커서가 담깁니다.
+ */
+@Getter
+public class CursorPageResponse<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+    private final int size;
+
+    public CursorPageResponse(List<T> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.size = content.size();
+    }
+}
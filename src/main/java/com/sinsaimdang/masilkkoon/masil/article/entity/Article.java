@@ -12,13 +12,31 @@ import java.util.ArrayList; // [추가] ArrayList import
 import java.util.List;    // [추가] List import
 import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleUpdateRequest;
 import java.util.stream.Collectors;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 
 @Entity // 이 클래스가 JPA 엔티티임을 명시
-@Table(name = "articles") // 데이터베이스 테이블 이름 지정 (관례상 소문자 복수형)
+@Table(name = "articles", indexes = { // 데이터베이스 테이블 이름 지정 (관례상 소문자 복수형)
+        // 커서 기반 목록 조회(정렬 기준 값 -> 생성일 -> ID)가 인덱스 범위 스캔으로 처리되도록 정렬 순서와 동일하게 구성
+        @Index(name = "idx_articles_created_at_id", columnList = "created_at, article_id"),
+        @Index(name = "idx_articles_like_count_created_at_id", columnList = "like_count, created_at, article_id"),
+        @Index(name = "idx_articles_view_count_created_at_id", columnList = "view_count, created_at, article_id"),
+        @Index(name = "idx_articles_scrap_count_created_at_id", columnList = "scrap_count, created_at, article_id"),
+        // 지역 + 태그 필터 후 최신순 정렬
+        @Index(name = "idx_articles_region_tag_mask_created_at", columnList = "region_id, tag_mask, created_at, article_id")
+})
 @Getter // Lombok을 사용하여 Getter 자동 생성
 @Setter // Lombok을 사용하여 Setter 자동 생성 (초보 단계에서 편의상 사용)
 public class Article {
 
+    private static final int EXCERPT_LENGTH = 100; // 목록 카드 요약 글자 수
+
     @Id // 기본 키(Primary Key)임을 명시
     @GeneratedValue(strategy = GenerationType.IDENTITY) // DB가 ID를 자동 생성 (MySQL의 auto_increment)
     @Column(name = "article_id") // DB 컬럼명 지정
@@ -30,6 +48,16 @@ public class Article {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content; // 게시글 내용
 
+    // 목록 카드용 요약 정보 (작성/수정 시점에 계산하여 저장, 목록 조회 시 본문과 장소를 읽지 않기 위함)
+    @Column(name = "excerpt", length = 500)
+    private String excerpt; // 본문 앞부분 요약
+
+    @Column(name = "cover_photo_url", length = 1000)
+    private String coverPhotoUrl; // 대표 사진 (가장 앞 순서 장소의 사진)
+
+    @Column(name = "cover_photo_card_url", length = 1000)
+    private String coverPhotoCardUrl; // 대표 사진의 카드용 변형 이미지 (백그라운드 생성 전에는 null)
+
     // User 엔티티와 다대일(Many-to-One) 관계 설정
     @ManyToOne(fetch = FetchType.LAZY) // 지연 로딩으로 성능 최적화
     @JoinColumn(name = "user_id", nullable = false) // DB의 user_id 컬럼과 매핑
@@ -47,6 +75,10 @@ public class Article {
     @Column(name = "tag") // 태그 값을 저장할 컬럼명
     private Set<ArticleTag> articleTags = new HashSet<>();
 
+    // articleTags 를 비트마스크로 저장한 값 (태그 AND 필터링을 단일 조건으로 처리하기 위함)
+    @Column(name = "tag_mask", nullable = false, columnDefinition = "int default 0")
+    private int tagMask = 0;
+
     @Column(nullable = false, columnDefinition = "int default 0")
     private int scrapCount = 0; // 스크랩 수
 
@@ -61,10 +93,11 @@ public class Article {
 //    @CollectionTable(name = "article_places", joinColumns = @JoinColumn(name = "article_id"))
 //    private Set<ArticlePlace> articlePlaces = new HashSet<>();
 
-    @ElementCollection(fetch = FetchType.LAZY)
-    @CollectionTable(name = "article_places", joinColumns = @JoinColumn(name = "article_id"))
+    // 장소는 자체 ID 를 가진 엔티티 - 수정 시 바뀐 장소만 반영 (게시글 저장/삭제 시 함께 저장/삭제)
+    // 태그와 함께 Fetch Join 해도 같은 장소가 중복으로 담기지 않도록 Set 사용 (조회 시 placeOrder 순서 유지)
+    @OneToMany(mappedBy = "article", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("placeOrder ASC") // placeOrder 필드 기준으로 항상 오름차순 정렬
-    private List<ArticlePlace> articlePlaces = new ArrayList<>();
+    private Set<ArticlePlace> articlePlaces = new LinkedHashSet<>();
 
     @Column(name = "created_at", updatable = false, nullable = false)
     private LocalDateTime createdAt; // 게시글 생성 시간
@@ -120,14 +153,20 @@ public class Article {
         this.user = user;
         this.region = region;
         this.articleTags = articleTags != null ? new HashSet<>(articleTags) : new HashSet<>();
-        this.articlePlaces = articlePlaces != null ? new ArrayList<>(articlePlaces) : new ArrayList<>();
+        this.tagMask = ArticleTag.toMask(this.articleTags);
+        this.articlePlaces = new LinkedHashSet<>();
+        if (articlePlaces != null) {
+            articlePlaces.forEach(this::addPlace);
+        }
+        refreshCardSummary();
         this.scrapCount = 0;
         this.likeCount = 0;
         this.viewCount = 0;
     }
 
     /**
-     * 게시글 수정 DTO를 기반으로 엔티티의 내용을 업데이트하는 메서드
+     * 게시글 수정 DTO를 기반으로 엔티티의 내용을 업데이트하는 메서드<br>
+     * 태그와 장소는 전체를 지우고 다시 넣지 않고 바뀐 항목만 반영하여, 제목만 수정해도 모든 행이 다시 쓰이지 않도록 합니다.
      *
      * @param request 수정 요청 DTO
      */
@@ -136,14 +175,69 @@ public class Article {
         this.content = request.getContent();
         this.region = region;
 
-        this.articleTags.clear();
-        if (request.getTags() != null) {
-            this.articleTags.addAll(request.getTags());
+        updateTags(request.getTags() != null ? request.getTags() : Collections.emptyList());
+        updatePlaces(updatedArticlePlaces != null ? updatedArticlePlaces : Collections.emptyList());
+        refreshCardSummary();
+    }
+
+    // 빠진 태그만 삭제하고 새 태그만 추가 (변경이 없으면 article_tags 에 쓰지 않음)
+    private void updateTags(Collection<ArticleTag> tags) {
+        Set<ArticleTag> newTags = new HashSet<>(tags);
+        this.articleTags.retainAll(newTags);
+        this.articleTags.addAll(newTags);
+        this.tagMask = ArticleTag.toMask(this.articleTags);
+    }
+
+    // placeOrder 가 같은 기존 장소는 내용만 갱신하고, 없어진 순서의 장소는 삭제, 새 순서의 장소만 추가
+    private void updatePlaces(List<ArticlePlace> updatedPlaces) {
+        Map<Integer, Deque<ArticlePlace>> existingByOrder = new HashMap<>();
+        for (ArticlePlace place : this.articlePlaces) {
+            existingByOrder.computeIfAbsent(place.getPlaceOrder(), order -> new ArrayDeque<>()).add(place);
         }
 
-        this.articlePlaces.clear();
-        if (updatedArticlePlaces != null) {
-            this.articlePlaces.addAll(updatedArticlePlaces);
+        List<ArticlePlace> placesToAdd = new ArrayList<>();
+        for (ArticlePlace updated : updatedPlaces) {
+            Deque<ArticlePlace> candidates = existingByOrder.get(updated.getPlaceOrder());
+            ArticlePlace existing = candidates != null ? candidates.pollFirst() : null;
+            if (existing != null) {
+                existing.updateFrom(updated);
+            } else {
+                placesToAdd.add(updated);
+            }
+        }
+
+        // 짝이 없는 기존 장소는 orphanRemoval 로 삭제됨
+        existingByOrder.values().forEach(this.articlePlaces::removeAll);
+        placesToAdd.forEach(this::addPlace);
+    }
+
+    private void addPlace(ArticlePlace place) {
+        place.setArticle(this);
+        this.articlePlaces.add(place);
+    }
+
+    /**
+     * 본문과 장소 정보로 목록 카드용 요약(excerpt)과 대표 사진(coverPhotoUrl, coverPhotoCardUrl)을 다시 계산합니다.
+     */
+    private void refreshCardSummary() {
+        this.excerpt = createExcerpt(this.content);
+        ArticlePlace coverPlace = this.articlePlaces.stream()
+                .filter(place -> place.getPhotoUrl() != null && !place.getPhotoUrl().isEmpty())
+                .min(Comparator.comparingInt(ArticlePlace::getPlaceOrder))
+                .orElse(null);
+        this.coverPhotoUrl = coverPlace != null ? coverPlace.getPhotoUrl() : null;
+        this.coverPhotoCardUrl = coverPlace != null ? coverPlace.getPhotoCardUrl() : null;
+    }
+
+    // 연속된 공백/줄바꿈을 하나로 합치고 EXCERPT_LENGTH 글자까지 자름
+    private static String createExcerpt(String content) {
+        if (content == null) {
+            return "";
+        }
+        String normalized = content.strip().replaceAll("\\s+", " ");
+        if (normalized.codePointCount(0, normalized.length()) <= EXCERPT_LENGTH) {
+            return normalized;
         }
+        return normalized.substring(0, normalized.offsetByCodePoints(0, EXCERPT_LENGTH)) + "...";
     }
 }
\ No newline at end of file
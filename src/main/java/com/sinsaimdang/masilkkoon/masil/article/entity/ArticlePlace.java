@@ -1,17 +1,36 @@
 package com.sinsaimdang.masilkkoon.masil.article.entity;
 
-import jakarta.persistence.Column; // JPA 컬럼 어노테이션
-import jakarta.persistence.Embeddable; // 임베디드 타입 어노테이션
-import lombok.EqualsAndHashCode;
+import jakarta.persistence.*; // JPA 관련 어노테이션
 import lombok.Getter; // Lombok Getter
-import lombok.Setter; // Lombok Setter (임베디드 타입도 Setter 지양 권장하나, 초기 편의상 포함)
+import lombok.Setter; // Lombok Setter (초기 편의상 포함)
 
-@Embeddable // 이 클래스가 다른 엔티티에 포함될 수 있는 값 타입임을 명시
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 게시글의 장소 (게시글 하나에 순서가 있는 여러 장소)<br>
+ * 자체 ID 를 가진 엔티티이므로 게시글 수정 시 바뀐 장소만 UPDATE/INSERT/DELETE 됩니다.
+ * (값 타입 컬렉션일 때는 수정마다 게시글의 장소 행 전체를 지우고 다시 삽입했음)
+ */
+@Entity
+@Table(name = "article_places", indexes = {
+        @Index(name = "idx_article_places_article_id_place_order", columnList = "article_id, place_order")
+})
 @Getter @Setter // Lombok Getter, Setter 자동 생성
-@EqualsAndHashCode(of = {"placeOrder", "placeName", "address"})
 public class ArticlePlace {
 
-    @Column(nullable = false)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "article_place_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "article_id", nullable = false)
+    private Article article;
+
+    @Column(name = "place_order", nullable = false)
     private int placeOrder; // 장소 순서 (숫자순서)
 
     @Column(nullable = false, length = 255)
@@ -26,6 +45,16 @@ public class ArticlePlace {
     @Column(name = "photo_url", length = 1000)
     private String photoUrl;
 
+    // 원본(photoUrl)으로부터 백그라운드에서 생성되는 변형 이미지 URL (생성 전에는 null)
+    @Column(name = "photo_thumbnail_url", length = 1000)
+    private String photoThumbnailUrl;
+
+    @Column(name = "photo_card_url", length = 1000)
+    private String photoCardUrl;
+
+    @Column(name = "photo_web_url", length = 1000)
+    private String photoWebUrl;
+
     // JPA를 위한 기본 생성자 (protected 사용 권장)
     protected ArticlePlace() {
     }
@@ -38,4 +67,38 @@ public class ArticlePlace {
         this.description = description;
         this.photoUrl = photoUrl;
     }
+
+    /**
+     * 같은 순서의 장소가 수정된 경우 내용만 덮어씁니다. (바뀐 값이 없으면 UPDATE 가 발생하지 않음)
+     */
+    public void updateFrom(ArticlePlace source) {
+        this.placeOrder = source.placeOrder;
+        this.placeName = source.placeName;
+        this.address = source.address;
+        this.description = source.description;
+        this.photoUrl = source.photoUrl;
+        this.photoThumbnailUrl = source.photoThumbnailUrl;
+        this.photoCardUrl = source.photoCardUrl;
+        this.photoWebUrl = source.photoWebUrl;
+    }
+
+    /**
+     * 같은 원본 사진을 유지하는 경우 이전 장소에서 생성된 변형 이미지 URL 을 이어받습니다.
+     */
+    public void inheritVariants(ArticlePlace previous) {
+        if (previous != null && Objects.equals(this.photoUrl, previous.photoUrl)) {
+            this.photoThumbnailUrl = previous.photoThumbnailUrl;
+            this.photoCardUrl = previous.photoCardUrl;
+            this.photoWebUrl = previous.photoWebUrl;
+        }
+    }
+
+    /**
+     * 이 장소에 저장된 모든 이미지 URL (원본 + 변형, 삭제 처리용)
+     */
+    public List<String> getStoredPhotoUrls() {
+        return Stream.of(photoUrl, photoThumbnailUrl, photoCardUrl, photoWebUrl)
+                .filter(url -> url != null && !url.isEmpty())
+                .collect(Collectors.toList());
+    }
 }
\ No newline at end of file
@@ -1,8 +1,69 @@
 package com.sinsaimdang.masilkkoon.masil.article.entity;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 // 게시글 태그 종류를 정의하는 Enum (여행지, 맛집, 카페)
+// 각 태그는 articles.tag_mask 컬럼에 저장되는 고유 비트를 가짐 (비트 값은 DB 에 저장되므로 변경 금지)
 public enum ArticleTag {
-    TRAVEL_SPOT, // 여행지
-    RESTAURANT,  // 맛집
-    CAFE         // 카페
-}
\ No newline at end of file
+    TRAVEL_SPOT(1), // 여행지
+    RESTAURANT(2),  // 맛집
+    CAFE(4);        // 카페
+
+    private static final int ALL_MASK = TRAVEL_SPOT.bit | RESTAURANT.bit | CAFE.bit;
+
+    private final int bit;
+
+    ArticleTag(int bit) {
+        this.bit = bit;
+    }
+
+    public int getBit() {
+        return bit;
+    }
+
+    /**
+     * 태그 목록을 비트마스크로 변환합니다.
+     */
+    public static int toMask(Collection<ArticleTag> tags) {
+        int mask = 0;
+        if (tags != null) {
+            for (ArticleTag tag : tags) {
+                if (tag != null) {
+                    mask |= tag.bit;
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 비트마스크를 태그 목록으로 변환합니다.
+     */
+    public static Set<ArticleTag> fromMask(int mask) {
+        Set<ArticleTag> tags = EnumSet.noneOf(ArticleTag.class);
+        for (ArticleTag tag : values()) {
+            if ((mask & tag.bit) != 0) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * 주어진 비트마스크의 태그를 모두 포함하는 비트마스크 목록을 반환합니다.<br>
+     * 태그 종류가 적어 후보가 최대 8개이므로 tag_mask IN (...) 조건으로 인덱스를 사용할 수 있습니다.
+     */
+    public static List<Integer> supersetMasks(int mask) {
+        List<Integer> masks = new ArrayList<>();
+        for (int candidate = 0; candidate <= ALL_MASK; candidate++) {
+            if ((candidate & mask) == mask) {
+                masks.add(candidate);
+            }
+        }
+        return masks;
+    }
+}
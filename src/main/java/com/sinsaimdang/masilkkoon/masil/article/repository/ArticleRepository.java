@@ -2,12 +2,12 @@ package com.sinsaimdang.masilkkoon.masil.article.repository;
 
 import com.sinsaimdang.masilkkoon.masil.article.entity.Article;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository; // @Repository 어노테이션은 생략 가능하지만, 명시적으로 유지
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 
 @Repository // 스프링 빈으로 등록 (생략 가능하지만, 명시적으로 유지)
 public interface ArticleRepository extends JpaRepository<Article, Long>, ArticleRepositoryCustom {
@@ -30,5 +30,45 @@ public interface ArticleRepository extends JpaRepository<Article, Long>, Article
 
     List<Article> findAllByUserId(Long userId);
 
-    Page<Article> findByUser_Id(Long userId, Pageable pageable);
+    // 좋아요/스크랩 수는 엔티티를 읽지 않고 단일 UPDATE 문으로 원자적으로 갱신합니다.
+    // 동시에 요청이 들어와도 DB 가 행 단위로 직렬화하므로 갱신이 유실되지 않습니다.
+    // 반환값은 갱신된 행 수이며, 0 이면 게시글이 없거나(감소의 경우) 이미 0 인 경우입니다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Article a SET a.likeCount = a.likeCount + 1 WHERE a.id = :articleId")
+    int incrementLikeCount(@Param("articleId") Long articleId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Article a SET a.likeCount = a.likeCount - 1 WHERE a.id = :articleId AND a.likeCount > 0")
+    int decrementLikeCount(@Param("articleId") Long articleId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Article a SET a.scrapCount = a.scrapCount + 1 WHERE a.id = :articleId")
+    int incrementScrapCount(@Param("articleId") Long articleId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Article a SET a.scrapCount = a.scrapCount - 1 WHERE a.id = :articleId AND a.scrapCount > 0")
+    int decrementScrapCount(@Param("articleId") Long articleId);
+
+    // 수정/삭제 권한 확인용 작성자 ID 조회
+    @Query("SELECT a.user.id FROM Article a WHERE a.id = :articleId")
+    Optional<Long> findAuthorIdById(@Param("articleId") Long articleId);
+
+    // 스크랩 목록 개수 캐시 갱신에 필요한 태그/지역 정보만 조회 (엔티티를 로딩하지 않음)
+    @Query("SELECT a.tagMask AS tagMask, a.region.id AS regionId FROM Article a WHERE a.id = :articleId")
+    Optional<FilterKey> findFilterKeyById(@Param("articleId") Long articleId);
+
+    interface FilterKey {
+        int getTagMask();
+        Long getRegionId();
+    }
+
+    // 게시글 상세 캐시와 합칠 카운터만 기본 키로 조회
+    @Query("SELECT a.scrapCount AS scrapCount, a.likeCount AS likeCount, a.viewCount AS viewCount FROM Article a WHERE a.id = :articleId")
+    Optional<Counters> findCountersById(@Param("articleId") Long articleId);
+
+    interface Counters {
+        int getScrapCount();
+        int getLikeCount();
+        int getViewCount();
+    }
 }
\ No newline at end of file
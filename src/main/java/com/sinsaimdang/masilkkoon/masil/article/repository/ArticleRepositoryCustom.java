@@ -1,12 +1,53 @@
 package com.sinsaimdang.masilkkoon.masil.article.repository;
 
+import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleCursor;
+import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleListItem;
 import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleSearchCondition;
-import com.sinsaimdang.masilkkoon.masil.article.entity.Article;
+import com.sinsaimdang.masilkkoon.masil.article.entity.ArticleTag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 목록 조회는 엔티티 대신 읽기 모델({@link ArticleListItem})로 바로 조회합니다.
+ */
 public interface ArticleRepositoryCustom {
-    Page<Article> search(ArticleSearchCondition condition, Pageable pageable);
+    Page<ArticleListItem> search(ArticleSearchCondition condition, Pageable pageable);
+
+    Page<ArticleListItem> searchScrapedArticles(Long userId, ArticleSearchCondition condition, Pageable pageable);
+
+    /**
+     * 전체 개수를 세지 않고 다음 페이지 존재 여부만 확인하는 게시글 검색 (무한 스크롤용)
+     */
+    Slice<ArticleListItem> searchSlice(ArticleSearchCondition condition, Pageable pageable);
+
+    Slice<ArticleListItem> searchScrapedArticlesSlice(Long userId, ArticleSearchCondition condition, Pageable pageable);
+
+    /**
+     * 커서 기반(keyset) 게시글 검색
+     * @param cursor 이전 페이지 마지막 게시글의 커서 (첫 페이지는 null)
+     * @param limit 페이지 크기 (다음 페이지 확인을 위해 limit + 1 건을 반환할 수 있음)
+     */
+    List<ArticleListItem> searchByCursor(ArticleSearchCondition condition, ArticleCursor cursor, int limit);
+
+    /**
+     * 특정 사용자가 작성한 게시글 목록 조회
+     */
+    Page<ArticleListItem> findByAuthor(Long userId, Pageable pageable);
+
+    /**
+     * 게시글 ID 목록으로 목록용 읽기 모델을 한 번에 조회 (캐시된 피드 결과 복원용)
+     * @return 요청한 ID 순서대로 정렬된 목록 (존재하지 않는 게시글은 제외)
+     */
+    List<ArticleListItem> findListItemsByIds(List<Long> articleIds);
 
-    Page<Article> searchScrapedArticles(Long userId, ArticleSearchCondition condition, Pageable pageable);
+    /**
+     * 여러 게시글의 태그를 한 번의 쿼리로 조회
+     * @return 게시글 ID -> 태그 목록 (태그가 없는 게시글은 포함되지 않음)
+     */
+    Map<Long, List<ArticleTag>> findTagsByArticleIds(Collection<Long> articleIds);
 }
\ No newline at end of file
@@ -1,21 +1,40 @@
 package com.sinsaimdang.masilkkoon.masil.article.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.EnumPath;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleCursor;
+import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleListItem;
 import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleSearchCondition;
+import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleSortOrder;
 import com.sinsaimdang.masilkkoon.masil.article.entity.Article;
 import com.sinsaimdang.masilkkoon.masil.article.entity.ArticleTag;
+import com.sinsaimdang.masilkkoon.masil.article.service.ArticleCountCache;
+import com.sinsaimdang.masilkkoon.masil.region.service.RegionHierarchy;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.function.Supplier;
 
 import static com.sinsaimdang.masilkkoon.masil.article.entity.QArticle.article;
 import static com.sinsaimdang.masilkkoon.masil.article.entity.QArticleScrap.articleScrap;
@@ -27,86 +46,165 @@ import com.querydsl.core.types.OrderSpecifier;
 public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final ArticleCountCache articleCountCache;
+    private final RegionHierarchy regionHierarchy;
 
-    public ArticleRepositoryImpl(EntityManager em) {
+    public ArticleRepositoryImpl(EntityManager em, ArticleCountCache articleCountCache, RegionHierarchy regionHierarchy) {
         this.queryFactory = new JPAQueryFactory(em);
+        this.articleCountCache = articleCountCache;
+        this.regionHierarchy = regionHierarchy;
     }
 
     @Override
-    public Page<Article> search(ArticleSearchCondition condition, Pageable pageable) {
-        List<Article> content = queryFactory
-                .selectFrom(article).distinct()
+    public Page<ArticleListItem> search(ArticleSearchCondition condition, Pageable pageable) {
+        List<ArticleListItem> content = searchContent(condition, pageable.getOffset(), pageable.getPageSize());
+
+        // 마지막 페이지처럼 content 만으로 전체 개수를 알 수 있으면 count 쿼리를 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> cachedCount(null, condition, () -> queryFactory
+                .select(article.count())
+                .from(article)
+                .where(
+                        tagsAllPresent(condition.getTags()),
+                        regionFilter(condition.getRegion())
+                )
+                .fetchOne()));
+    }
+
+    @Override
+    public Slice<ArticleListItem> searchSlice(ArticleSearchCondition condition, Pageable pageable) {
+        // count 쿼리 없이 한 건 더 조회하여 다음 페이지 존재 여부만 판단
+        List<ArticleListItem> content = searchContent(condition, pageable.getOffset(), pageable.getPageSize() + 1);
+        return toSlice(content, pageable);
+    }
+
+    private List<ArticleListItem> searchContent(ArticleSearchCondition condition, long offset, int limit) {
+        return queryFactory
+                .select(listItem())
                 .from(article)
-                .leftJoin(article.user, user).fetchJoin()
-                .leftJoin(article.region, region).fetchJoin()
+                .join(article.user, user)
+                .join(article.region, region)
 //                .leftJoin(article.articleTags).fetchJoin()
 //                .leftJoin(article.articlePlaces).fetchJoin()
                 .where(
                         tagsAllPresent(condition.getTags()),
                         regionFilter(condition.getRegion())
                 )
+                .offset(offset)
+                .limit(limit)
+                .orderBy(articleSort(condition.getSortOrder()), article.createdAt.desc(), article.id.desc())
+                .fetch();
+    }
+
+    @Override
+    public Page<ArticleListItem> findByAuthor(Long userId, Pageable pageable) {
+        List<ArticleListItem> content = queryFactory
+                .select(listItem())
+                .from(article)
+                .join(article.user, user)
+                .join(article.region, region)
+                .where(article.user.id.eq(userId))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .orderBy(articleSort(condition.getSortOrder()), article.createdAt.desc(), article.id.desc())
+                .orderBy(pageableSort(pageable))
                 .fetch();
 
-        Long total = queryFactory
+        return PageableExecutionUtils.getPage(content, pageable, () -> queryFactory
                 .select(article.count())
                 .from(article)
-                .leftJoin(article.region, region)
-                .where(
-                        tagsAllPresent(condition.getTags()),
-                        regionFilter(condition.getRegion())
-                )
-                .fetchOne();
+                .where(article.user.id.eq(userId))
+                .fetchOne());
+    }
+
+    /**
+     * 목록 조회용 생성자 프로젝션 (작성자/지역 정보는 조인으로 함께 조회, 엔티티는 영속성 컨텍스트에 올라가지 않음)
+     * 본문(TEXT) 대신 작성 시점에 계산해 둔 요약과 대표 사진만 읽음
+     */
+    private ConstructorExpression<ArticleListItem> listItem() {
+        return Projections.constructor(ArticleListItem.class,
+                article.id,
+                article.title,
+                article.excerpt,
+                article.coverPhotoUrl,
+                article.coverPhotoCardUrl,
+                user.id,
+                user.nickname,
+                user.role,
+                user.profileImageUrl,
+                user.profileImageThumbnailUrl,
+                region.name,
+                article.scrapCount,
+                article.likeCount,
+                article.viewCount,
+                article.createdAt,
+                article.updatedAt);
+    }
+
+    // 요청의 정렬 정보를 그대로 적용하고, 정렬 정보가 없으면 최신순
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private OrderSpecifier<?>[] pageableSort(Pageable pageable) {
+        if (pageable.getSort().isUnsorted()) {
+            return new OrderSpecifier<?>[]{article.createdAt.desc(), article.id.desc()};
+        }
+        PathBuilder<Article> path = new PathBuilder<>(Article.class, article.getMetadata());
+        return pageable.getSort().stream()
+                .map(order -> new OrderSpecifier(
+                        order.isAscending() ? Order.ASC : Order.DESC,
+                        path.getComparable(order.getProperty(), Comparable.class)))
+                .toArray(OrderSpecifier<?>[]::new);
+    }
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    /**
+     * 캐시된 전체 개수가 있으면 사용하고, 없으면 count 쿼리를 실행하여 캐시에 저장
+     */
+    private long cachedCount(Long userId, ArticleSearchCondition condition, Supplier<Long> countQuery) {
+        Long cached = articleCountCache.get(userId, condition);
+        if (cached != null) {
+            return cached;
+        }
+        Long total = countQuery.get();
+        long result = total != null ? total : 0L;
+        articleCountCache.put(userId, condition, result);
+        return result;
+    }
+
+    private <T> Slice<T> toSlice(List<T> content, Pageable pageable) {
+        boolean hasNext = content.size() > pageable.getPageSize();
+        List<T> pageContent = hasNext ? content.subList(0, pageable.getPageSize()) : content;
+        return new SliceImpl<>(pageContent, pageable, hasNext);
     }
 
     private BooleanExpression tagsAllPresent(List<ArticleTag> tags) {
         if (CollectionUtils.isEmpty(tags)) {
             return null; // 태그가 없으면 조건 적용 안 함 (모든 게시글 조회)
         }
-        // 각 선택된 태그가 게시글의 태그 Set에 모두 포함되는지 확인 (AND 조건)
-        // 예를 들어, tags = [CAFE, RESTAURANT] 이면,
-        // (article.articleTags.contains(CAFE) AND article.articleTags.contains(RESTAURANT))
-        BooleanExpression predicate = null;
-        for (ArticleTag tag : tags) {
-            if (predicate == null) {
-                predicate = article.articleTags.contains(tag);
-            } else {
-                predicate = predicate.and(article.articleTags.contains(tag));
-            }
-        }
-        return predicate;
+        // 선택된 태그가 게시글의 태그에 모두 포함되는지 확인 (AND 조건)
+        // 태그별 article_tags 서브쿼리 대신 tag_mask 컬럼 하나로 비교
+        // 예를 들어, tags = [CAFE, RESTAURANT] (마스크 6) 이면, tag_mask IN (6, 7)
+        return article.tagMask.in(ArticleTag.supersetMasks(ArticleTag.toMask(tags)));
     }
 
-    // 지역 필터링을 Region 엔티티 기준으로 변경
+    // 지역 필터링을 Region ID 기준으로 변경
     private BooleanExpression regionFilter(String selectedRegionName) {
         if (!StringUtils.hasText(selectedRegionName)) {
             return null;
         }
         // '서울'을 선택하면, '종로구', '강남구' 등 하위 지역에 속한 게시글도 찾아야 함.
-        // article.region은 '종로구'이고, 그 부모(parent)의 이름이 '서울특별시'인 경우를 찾으면 됨.
-        return article.region.name.eq(selectedRegionName) // '종로구' 자체를 검색한 경우
-                .or(article.region.parent.name.eq(selectedRegionName)); // '서울특별시'로 검색한 경우
+        // 메모리의 지역 계층에서 해당 지역과 하위 지역 ID를 구해 regions 조인 없이 region_id 로 비교
+        // (일치하는 지역이 없으면 빈 IN 조건이 되어 결과가 없음)
+        return article.region.id.in(regionHierarchy.findSelfAndDescendantIds(selectedRegionName));
     }
 
     // 정렬 기준에 따라 OrderSpecifier를 반환하는 메서드
     private OrderSpecifier<?> articleSort(String sortOrder) {
-        if (!StringUtils.hasText(sortOrder)) {
-            return article.createdAt.desc(); // 기본 정렬: 최신순 (생성일 내림차순)
-        }
-
         // 프론트엔드에서 "좋아요순" 또는 "조회수순" 등의 문자열을 받을 것을 가정
-        switch (sortOrder) {
-            case "좋아요순":
+        switch (ArticleSortOrder.from(sortOrder)) {
+            case LIKES:
                 return article.likeCount.desc(); // 좋아요 수 내림차순
-            case "조회수순":
+            case VIEWS:
                 return article.viewCount.desc(); // 조회수 내림차순
-            case "오래된순":
+            case OLDEST:
                 return article.createdAt.asc();
-            case "스크랩순":
+            case SCRAPS:
                 return article.scrapCount.desc(); // 스크랩 수 내림차순
             default:
                 return article.createdAt.desc(); // 기본 정렬: 최신순
@@ -114,34 +212,143 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
     }
 
     @Override
-    public Page<Article> searchScrapedArticles(Long userId, ArticleSearchCondition condition, Pageable pageable) {
-        List<Article> content = queryFactory
-                .select(article)
+    public List<ArticleListItem> searchByCursor(ArticleSearchCondition condition, ArticleCursor cursor, int limit) {
+        ArticleSortOrder sortOrder = ArticleSortOrder.from(condition.getSortOrder());
+
+        // OFFSET 없이 마지막 행의 정렬 키 이후부터 읽기 때문에 깊은 페이지도 첫 페이지와 같은 비용으로 조회됨
+        // 다음 페이지 존재 여부 확인을 위해 limit + 1 건을 조회
+        return queryFactory
+                .select(listItem())
+                .from(article)
+                .join(article.user, user)
+                .join(article.region, region)
+                .where(
+                        tagsAllPresent(condition.getTags()),
+                        regionFilter(condition.getRegion()),
+                        afterCursor(sortOrder, cursor)
+                )
+                .orderBy(articleSort(condition.getSortOrder()), article.createdAt.desc(), article.id.desc())
+                .limit(limit + 1L)
+                .fetch();
+    }
+
+    @Override
+    public List<ArticleListItem> findListItemsByIds(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<ArticleListItem> rows = queryFactory
+                .select(listItem())
+                .from(article)
+                .join(article.user, user)
+                .join(article.region, region)
+                .where(article.id.in(articleIds))
+                .fetch();
+
+        // IN 조회는 순서를 보장하지 않으므로 요청한 ID 순서대로 정렬 (그 사이 삭제된 게시글은 제외)
+        Map<Long, ArticleListItem> itemsById = new HashMap<>();
+        rows.forEach(item -> itemsById.put(item.getId(), item));
+        List<ArticleListItem> ordered = new ArrayList<>(articleIds.size());
+        for (Long articleId : articleIds) {
+            ArticleListItem item = itemsById.get(articleId);
+            if (item != null) {
+                ordered.add(item);
+            }
+        }
+        return ordered;
+    }
+
+    @Override
+    public Map<Long, List<ArticleTag>> findTagsByArticleIds(Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        EnumPath<ArticleTag> tag = Expressions.enumPath(ArticleTag.class, "tag");
+
+        List<Tuple> rows = queryFactory
+                .select(article.id, tag)
+                .from(article)
+                .join(article.articleTags, tag)
+                .where(article.id.in(articleIds))
+                .fetch();
+
+        Map<Long, List<ArticleTag>> tagsByArticleId = new HashMap<>();
+        for (Tuple row : rows) {
+            tagsByArticleId.computeIfAbsent(row.get(article.id), id -> new ArrayList<>()).add(row.get(tag));
+        }
+        return tagsByArticleId;
+    }
+
+    /**
+     * 커서 이후의 게시글만 조회하는 조건 (정렬 순서: 정렬 기준 값 -> 생성일 -> ID)
+     */
+    private BooleanExpression afterCursor(ArticleSortOrder sortOrder, ArticleCursor cursor) {
+        if (cursor == null) {
+            return null; // 첫 페이지
+        }
+
+        switch (sortOrder) {
+            case LIKES:
+                return afterCounter(article.likeCount, cursor);
+            case VIEWS:
+                return afterCounter(article.viewCount, cursor);
+            case SCRAPS:
+                return afterCounter(article.scrapCount, cursor);
+            case OLDEST:
+                return article.createdAt.gt(cursor.getCreatedAt())
+                        .or(article.createdAt.eq(cursor.getCreatedAt()).and(article.id.lt(cursor.getId())));
+            default:
+                return beforeLatest(cursor);
+        }
+    }
+
+    private BooleanExpression afterCounter(NumberPath<Integer> counter, ArticleCursor cursor) {
+        return counter.lt(cursor.getSortValue())
+                .or(counter.eq(cursor.getSortValue()).and(beforeLatest(cursor)));
+    }
+
+    private BooleanExpression beforeLatest(ArticleCursor cursor) {
+        return article.createdAt.lt(cursor.getCreatedAt())
+                .or(article.createdAt.eq(cursor.getCreatedAt()).and(article.id.lt(cursor.getId())));
+    }
+
+    @Override
+    public Page<ArticleListItem> searchScrapedArticles(Long userId, ArticleSearchCondition condition, Pageable pageable) {
+        List<ArticleListItem> content = searchScrapedContent(userId, condition, pageable.getOffset(), pageable.getPageSize());
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> cachedCount(userId, condition, () -> queryFactory
+                .select(articleScrap.count())
                 .from(articleScrap)
                 .join(articleScrap.article, article)
-                .leftJoin(article.user, user).fetchJoin()
-                .leftJoin(article.region, region).fetchJoin()
                 .where(
                         articleScrap.user.id.eq(userId),
                         regionFilter(condition.getRegion()),
                         tagsAllPresent(condition.getTags())
                 )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(articleSort(condition.getSortOrder()), articleScrap.createdAt.desc()) // 기존 정렬 로직도 재사용!
-                .fetch();
+                .fetchOne()));
+    }
 
-        Long total = queryFactory
-                .select(articleScrap.count())
+    @Override
+    public Slice<ArticleListItem> searchScrapedArticlesSlice(Long userId, ArticleSearchCondition condition, Pageable pageable) {
+        List<ArticleListItem> content = searchScrapedContent(userId, condition, pageable.getOffset(), pageable.getPageSize() + 1);
+        return toSlice(content, pageable);
+    }
+
+    private List<ArticleListItem> searchScrapedContent(Long userId, ArticleSearchCondition condition, long offset, int limit) {
+        return queryFactory
+                .select(listItem())
                 .from(articleScrap)
                 .join(articleScrap.article, article)
+                .join(article.user, user)
+                .join(article.region, region)
                 .where(
                         articleScrap.user.id.eq(userId),
                         regionFilter(condition.getRegion()),
                         tagsAllPresent(condition.getTags())
                 )
-                .fetchOne();
-
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+                .offset(offset)
+                .limit(limit)
+                .orderBy(articleSort(condition.getSortOrder()), articleScrap.createdAt.desc()) // 기존 정렬 로직도 재사용!
+                .fetch();
     }
 }
\ No newline at end of file
@@ -16,6 +16,22 @@ public interface ArticleScrapRepository extends JpaRepository<ArticleScrap, Long
 
     Optional<ArticleScrap> findByUserIdAndArticleId(Long userId, Long articleId);
 
+    // 이미 존재하거나 게시글이 없으면 아무것도 삽입하지 않음 (유니크 제약 위반 예외가 발생하지 않음)
+    // 반환값: 삽입된 행 수 (1 = 새로 추가됨, 0 = 변경 없음)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO article_scrap (user_id, article_id, created_at) " +
+            "SELECT :userId, a.article_id, NOW(6) FROM articles a WHERE a.article_id = :articleId",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("articleId") Long articleId);
+
+    // 반환값: 삭제된 행 수 (1 = 삭제됨, 0 = 원래 없음)
+    @Modifying
+    @Query("DELETE FROM ArticleScrap ascr WHERE ascr.user.id = :userId AND ascr.article.id = :articleId")
+    int deleteByUserIdAndArticleId(@Param("userId") Long userId, @Param("articleId") Long articleId);
+
+    @Query("SELECT ascr.article.id FROM ArticleScrap ascr WHERE ascr.user.id = :userId")
+    List<Long> findArticleIdsByUserId(@Param("userId") Long userId);
+
     @Query("SELECT ascr.article.id FROM ArticleScrap ascr WHERE ascr.user.id = :userId AND ascr.article.id IN :articleIds")
     Set<Long> findScrappedArticleIdsByUserIdAndArticleIds(@Param("userId") Long userId, @Param("articleIds") List<Long> articleIds);
 
@@ -0,0 +1,181 @@
+package com.sinsaimdang.masilkkoon.masil.article.service;
+
+import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleSearchCondition;
+import com.sinsaimdang.masilkkoon.masil.article.entity.ArticleTag;
+import com.sinsaimdang.masilkkoon.masil.common.cache.AfterCommit;
+import com.sinsaimdang.masilkkoon.masil.common.cache.LruCache;
+import com.sinsaimdang.masilkkoon.masil.region.service.RegionHierarchy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 검색 결과 전체 개수 캐시<br>
+ * 검색 조건(정렬된 태그, 지역, 스크랩 목록의 경우 사용자 ID)을 키로 count 쿼리 결과를 저장합니다.
+ * 게시글 작성/삭제/수정, 스크랩 추가/취소 시 조건에 해당하는 항목만 +1/-1 로 갱신하며,
+ * 갱신은 트랜잭션 커밋 이후에 반영됩니다. 캐시 적재와 커밋이 겹쳐 생길 수 있는 오차는 TTL 로 보정됩니다.
+ */
+@Component
+@Slf4j
+public class ArticleCountCache {
+
+    private final LruCache<Key, Long> cache;
+    private final RegionHierarchy regionHierarchy;
+
+    public ArticleCountCache(RegionHierarchy regionHierarchy,
+                             @Value("${article.count-cache.max-size:1000}") int maxSize,
+                             @Value("${article.count-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.regionHierarchy = regionHierarchy;
+        this.cache = new LruCache<>(maxSize, TimeUnit.SECONDS.toMillis(ttlSeconds));
+    }
+
+    /**
+     * @param userId 스크랩 목록 조회인 경우 사용자 ID, 전체 게시글 조회인 경우 null
+     * @return 캐시된 전체 개수, 없으면 null
+     */
+    public Long get(Long userId, ArticleSearchCondition condition) {
+        return cache.get(Key.of(userId, condition));
+    }
+
+    public void put(Long userId, ArticleSearchCondition condition, long total) {
+        cache.put(Key.of(userId, condition), total);
+    }
+
+    /**
+     * 게시글 작성 - 조건에 해당하는 전체 게시글 개수 +1
+     */
+    public void articleCreated(Set<ArticleTag> tags, Long regionId) {
+        Set<ArticleTag> tagSnapshot = snapshot(tags);
+        AfterCommit.run(() -> cache.updateAll((key, total) ->
+                key.isPublic() && matches(key, tagSnapshot, regionId) ? total + 1 : total));
+    }
+
+    /**
+     * 게시글 삭제 - 조건에 해당하는 전체 게시글 개수 -1<br>
+     * 스크랩 목록은 어떤 사용자가 스크랩했는지 알 수 없으므로 조건에 해당하는 항목을 제거합니다.
+     */
+    public void articleDeleted(Set<ArticleTag> tags, Long regionId) {
+        Set<ArticleTag> tagSnapshot = snapshot(tags);
+        AfterCommit.run(() -> cache.updateAll((key, total) -> {
+            if (!matches(key, tagSnapshot, regionId)) {
+                return total;
+            }
+            return key.isPublic() ? Math.max(0L, total - 1) : null;
+        }));
+    }
+
+    /**
+     * 게시글 지역/태그 수정 - 이전 조건에만 해당하던 항목은 -1, 새 조건에만 해당하는 항목은 +1<br>
+     * 스크랩 목록은 조건 일치 여부가 바뀐 항목을 제거합니다.
+     */
+    public void articleChanged(Set<ArticleTag> oldTags, Long oldRegionId, Set<ArticleTag> newTags, Long newRegionId) {
+        Set<ArticleTag> oldTagSnapshot = snapshot(oldTags);
+        Set<ArticleTag> newTagSnapshot = snapshot(newTags);
+        if (oldTagSnapshot.equals(newTagSnapshot) && Objects.equals(oldRegionId, newRegionId)) {
+            return;
+        }
+        AfterCommit.run(() -> cache.updateAll((key, total) -> {
+            boolean before = matches(key, oldTagSnapshot, oldRegionId);
+            boolean after = matches(key, newTagSnapshot, newRegionId);
+            if (before == after) {
+                return total;
+            }
+            if (!key.isPublic()) {
+                return null;
+            }
+            return after ? total + 1 : Math.max(0L, total - 1);
+        }));
+    }
+
+    /**
+     * 해당 사용자의 스크랩 목록 개수가 캐시되어 있는지 확인합니다.<br>
+     * 캐시된 항목이 없으면 스크랩 추가/취소 시 게시글 태그/지역 조회를 생략할 수 있습니다.
+     */
+    public boolean hasScrapEntries(Long userId) {
+        return cache.anyKeyMatches(key -> userId.equals(key.userId));
+    }
+
+    /**
+     * 스크랩 추가 - 해당 사용자의 스크랩 목록 개수 +1
+     */
+    public void scrapAdded(Long userId, Set<ArticleTag> tags, Long regionId) {
+        Set<ArticleTag> tagSnapshot = snapshot(tags);
+        AfterCommit.run(() -> cache.updateAll((key, total) ->
+                userId.equals(key.userId) && matches(key, tagSnapshot, regionId) ? total + 1 : total));
+    }
+
+    /**
+     * 스크랩 취소 - 해당 사용자의 스크랩 목록 개수 -1
+     */
+    public void scrapRemoved(Long userId, Set<ArticleTag> tags, Long regionId) {
+        Set<ArticleTag> tagSnapshot = snapshot(tags);
+        AfterCommit.run(() -> cache.updateAll((key, total) ->
+                userId.equals(key.userId) && matches(key, tagSnapshot, regionId) ? Math.max(0L, total - 1) : total));
+    }
+
+    /**
+     * 전체 캐시 제거 (회원 탈퇴 등 여러 게시글/스크랩이 한 번에 삭제되는 경우)
+     */
+    public void invalidateAll() {
+        AfterCommit.run(cache::clear);
+    }
+
+    private static Set<ArticleTag> snapshot(Collection<ArticleTag> tags) {
+        return CollectionUtils.isEmpty(tags) ? EnumSet.noneOf(ArticleTag.class) : EnumSet.copyOf(tags);
+    }
+
+    // 검색 조건과 동일하게 태그는 모두 포함, 지역은 해당 지역 또는 하위 지역이면 일치
+    private boolean matches(Key key, Set<ArticleTag> articleTags, Long articleRegionId) {
+        return articleTags.containsAll(key.tags)
+                && (key.region == null || regionHierarchy.findSelfAndDescendantIds(key.region).contains(articleRegionId));
+    }
+
+    private static final class Key {
+        private final Long userId;
+        private final Set<ArticleTag> tags;
+        private final String region;
+
+        private Key(Long userId, Set<ArticleTag> tags, String region) {
+            this.userId = userId;
+            this.tags = tags;
+            this.region = region;
+        }
+
+        // 태그 순서/중복과 무관하게 같은 조건은 같은 키가 되도록 정규화
+        private static Key of(Long userId, ArticleSearchCondition condition) {
+            List<ArticleTag> tags = condition.getTags();
+            Set<ArticleTag> normalizedTags = EnumSet.noneOf(ArticleTag.class);
+            if (tags != null) {
+                tags.stream().filter(Objects::nonNull).forEach(normalizedTags::add);
+            }
+            String region = StringUtils.hasText(condition.getRegion()) ? condition.getRegion() : null;
+            return new Key(userId, normalizedTags, region);
+        }
+
+        private boolean isPublic() {
+            return userId == null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Objects.equals(userId, key.userId) && tags.equals(key.tags) && Objects.equals(region, key.region);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, tags, region);
+        }
+    }
+}
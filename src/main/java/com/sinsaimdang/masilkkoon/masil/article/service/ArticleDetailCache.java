@@ -0,0 +1,74 @@
+package com.sinsaimdang.masilkkoon.masil.article.service;
+
+import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleDetailSnapshot;
+import com.sinsaimdang.masilkkoon.masil.common.cache.AfterCommit;
+import com.sinsaimdang.masilkkoon.masil.common.cache.CacheGeneration;
+import com.sinsaimdang.masilkkoon.masil.common.cache.LruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 정보 캐시 (게시글 ID -> {@link ArticleDetailSnapshot})<br>
+ * 게시글 수정/삭제, 작성자 프로필 변경 시 트랜잭션 커밋 이후 제거됩니다.
+ * 적재 중에 제거가 일어나면 적재 결과를 캐시에 남기지 않아 수정 이전 내용이 다시 캐시되지 않도록 합니다.
+ */
+@Component
+@Slf4j
+public class ArticleDetailCache {
+
+    private final LruCache<Long, ArticleDetailSnapshot> cache;
+
+    private final CacheGeneration generation = new CacheGeneration();
+
+    public ArticleDetailCache(@Value("${article.detail-cache.max-size:1000}") int maxSize,
+                              @Value("${article.detail-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.cache = new LruCache<>(maxSize, TimeUnit.SECONDS.toMillis(ttlSeconds));
+    }
+
+    /**
+     * 캐시된 상세 정보를 반환하고, 없으면 loader 로 조회하여 캐시합니다.
+     * @return 상세 정보, 게시글이 없으면 empty
+     */
+    public Optional<ArticleDetailSnapshot> get(Long articleId, Supplier<Optional<ArticleDetailSnapshot>> loader) {
+        ArticleDetailSnapshot cached = cache.get(articleId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long loadedAt = generation.current();
+        Optional<ArticleDetailSnapshot> loaded = loader.get();
+        loaded.ifPresent(detail -> {
+            if (!generation.putIfUnchanged(cache, articleId, detail, loadedAt)) {
+                log.debug("게시글 상세 캐시 적재 중 변경 발생, 캐시하지 않음 - ID: {}", articleId);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * 게시글 수정/삭제 시 해당 게시글 제거
+     */
+    public void evict(Long articleId) {
+        afterCommit(() -> cache.remove(articleId));
+    }
+
+    /**
+     * 작성자 닉네임/프로필 이미지 변경, 회원 탈퇴 시 해당 작성자의 게시글 모두 제거
+     */
+    public void evictByAuthor(Long userId) {
+        afterCommit(() -> cache.updateAll((articleId, detail) ->
+                userId.equals(detail.getAuthor().getId()) ? null : detail));
+    }
+
+    private void afterCommit(Runnable eviction) {
+        AfterCommit.run(() -> {
+            generation.advance();
+            eviction.run();
+        });
+    }
+}
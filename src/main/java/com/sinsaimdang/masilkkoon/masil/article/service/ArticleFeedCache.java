@@ -0,0 +1,228 @@
+package com.sinsaimdang.masilkkoon.masil.article.service;
+
+import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleListItem;
+import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleSearchCondition;
+import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleSortOrder;
+import com.sinsaimdang.masilkkoon.masil.article.entity.ArticleTag;
+import com.sinsaimdang.masilkkoon.masil.common.cache.AfterCommit;
+import com.sinsaimdang.masilkkoon.masil.common.cache.CacheGeneration;
+import com.sinsaimdang.masilkkoon.masil.common.cache.LruCache;
+import com.sinsaimdang.masilkkoon.masil.region.service.RegionHierarchy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 자주 조회되는 게시글 피드 결과 캐시<br>
+ * 필터가 없거나 최상위 지역 하나, 태그 최대 하나인 조건의 앞쪽 몇 페이지만 대상으로 하며,
+ * 게시글 목록 대신 게시글 ID 목록과 전체 개수만 저장합니다. (내용은 ID 로 한 번에 다시 조회)
+ * 좋아요/조회수/스크랩 순 정렬은 카운터 변화로 순서가 바뀌므로 최신순/오래된순보다 짧은 TTL 을 적용합니다.
+ * 게시글 작성/삭제/수정 시에는 해당 게시글이 포함될 수 있는 조건의 항목만 커밋 이후 제거합니다.
+ */
+@Component
+@Slf4j
+public class ArticleFeedCache {
+
+    private final LruCache<Key, FeedPage> cache;
+    private final RegionHierarchy regionHierarchy;
+    private final int maxPages;
+    private final long dateSortTtlMillis;
+    private final long counterSortTtlMillis;
+
+    private final CacheGeneration generation = new CacheGeneration();
+
+    public ArticleFeedCache(RegionHierarchy regionHierarchy,
+                            @Value("${article.feed-cache.max-size:500}") int maxSize,
+                            @Value("${article.feed-cache.max-pages:3}") int maxPages,
+                            @Value("${article.feed-cache.date-sort-ttl-seconds:60}") long dateSortTtlSeconds,
+                            @Value("${article.feed-cache.counter-sort-ttl-seconds:10}") long counterSortTtlSeconds) {
+        this.regionHierarchy = regionHierarchy;
+        this.maxPages = maxPages;
+        this.dateSortTtlMillis = TimeUnit.SECONDS.toMillis(dateSortTtlSeconds);
+        this.counterSortTtlMillis = TimeUnit.SECONDS.toMillis(counterSortTtlSeconds);
+        this.cache = new LruCache<>(maxSize, Math.max(dateSortTtlMillis, counterSortTtlMillis));
+    }
+
+    /**
+     * 캐시 대상 조건인지 확인합니다. (앞쪽 페이지, 태그 최대 1개, 지역 없음 또는 최상위 지역)
+     */
+    public boolean isCacheable(ArticleSearchCondition condition, Pageable pageable) {
+        if (pageable.getPageNumber() >= maxPages) {
+            return false;
+        }
+        if (Integer.bitCount(ArticleTag.toMask(condition.getTags())) > 1) {
+            return false;
+        }
+        String region = normalizedRegion(condition.getRegion());
+        return region == null || regionHierarchy.findTopLevel(region).isPresent();
+    }
+
+    /**
+     * @return 캐시된 피드 페이지, 없거나 만료되었으면 null
+     */
+    public FeedPage get(ArticleSearchCondition condition, Pageable pageable) {
+        Key key = Key.of(condition, pageable);
+        FeedPage cached = cache.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.isExpired(System.currentTimeMillis())) {
+            cache.remove(key);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * loader 로 피드를 조회하고 결과의 ID 목록과 전체 개수를 캐시합니다.
+     */
+    public Page<ArticleListItem> load(ArticleSearchCondition condition, Pageable pageable, Supplier<Page<ArticleListItem>> loader) {
+        Key key = Key.of(condition, pageable);
+        long loadedAt = generation.current();
+        Page<ArticleListItem> page = loader.get();
+
+        List<Long> articleIds = page.getContent().stream()
+                .map(ArticleListItem::getId)
+                .collect(Collectors.toList());
+        long ttlMillis = key.sortOrder.isCounterBased() ? counterSortTtlMillis : dateSortTtlMillis;
+        FeedPage feedPage = new FeedPage(articleIds, page.getTotalElements(), System.currentTimeMillis() + ttlMillis);
+        if (!generation.putIfUnchanged(cache, key, feedPage, loadedAt)) {
+            log.debug("피드 캐시 적재 중 변경 발생, 캐시하지 않음 - 조건: {}", key);
+        }
+        return page;
+    }
+
+    /**
+     * 게시글 작성 - 해당 게시글이 포함될 수 있는 조건의 항목 제거
+     */
+    public void articleCreated(Collection<ArticleTag> tags, Long regionId) {
+        evictMatching(ArticleTag.toMask(tags), regionId);
+    }
+
+    /**
+     * 게시글 삭제 - 해당 게시글이 포함될 수 있는 조건의 항목 제거
+     */
+    public void articleDeleted(Collection<ArticleTag> tags, Long regionId) {
+        evictMatching(ArticleTag.toMask(tags), regionId);
+    }
+
+    /**
+     * 게시글 수정 - 이전 또는 새 지역/태그 조건에 해당하는 항목 제거
+     */
+    public void articleChanged(Collection<ArticleTag> oldTags, Long oldRegionId, Collection<ArticleTag> newTags, Long newRegionId) {
+        int oldMask = ArticleTag.toMask(oldTags);
+        int newMask = ArticleTag.toMask(newTags);
+        if (oldMask == newMask && Objects.equals(oldRegionId, newRegionId)) {
+            return; // 제목/본문 등은 ID 로 다시 조회하므로 포함 여부가 바뀌지 않으면 유지
+        }
+        afterCommit(() -> cache.updateAll((key, page) ->
+                matches(key, oldMask, oldRegionId) || matches(key, newMask, newRegionId) ? null : page));
+    }
+
+    /**
+     * 전체 캐시 제거 (회원 탈퇴 등 여러 게시글이 한 번에 삭제되는 경우)
+     */
+    public void invalidateAll() {
+        afterCommit(cache::clear);
+    }
+
+    private void evictMatching(int tagMask, Long regionId) {
+        afterCommit(() -> cache.updateAll((key, page) -> matches(key, tagMask, regionId) ? null : page));
+    }
+
+    private void afterCommit(Runnable eviction) {
+        AfterCommit.run(() -> {
+            generation.advance();
+            eviction.run();
+        });
+    }
+
+    // 검색 조건과 동일하게 태그는 모두 포함, 지역은 해당 지역 또는 하위 지역이면 일치
+    private boolean matches(Key key, int articleTagMask, Long articleRegionId) {
+        if ((articleTagMask & key.tagMask) != key.tagMask) {
+            return false;
+        }
+        if (key.region == null) {
+            return true;
+        }
+        Set<Long> regionIds = regionHierarchy.findSelfAndDescendantIds(key.region);
+        return regionIds.contains(articleRegionId);
+    }
+
+    private static String normalizedRegion(String region) {
+        return StringUtils.hasText(region) ? region : null;
+    }
+
+    /**
+     * 캐시된 피드 한 페이지 (게시글 ID 목록 + 전체 개수)
+     */
+    @Getter
+    public static final class FeedPage {
+        private final List<Long> articleIds;
+        private final long total;
+        private final long expiresAt;
+
+        private FeedPage(List<Long> articleIds, long total, long expiresAt) {
+            this.articleIds = List.copyOf(articleIds);
+            this.total = total;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    private static final class Key {
+        private final ArticleSortOrder sortOrder;
+        private final int tagMask;
+        private final String region;
+        private final int page;
+        private final int size;
+
+        private Key(ArticleSortOrder sortOrder, int tagMask, String region, int page, int size) {
+            this.sortOrder = sortOrder;
+            this.tagMask = tagMask;
+            this.region = region;
+            this.page = page;
+            this.size = size;
+        }
+
+        // 태그 순서/중복, 정렬 기준 표기와 무관하게 같은 조건은 같은 키가 되도록 정규화
+        private static Key of(ArticleSearchCondition condition, Pageable pageable) {
+            return new Key(ArticleSortOrder.from(condition.getSortOrder()), ArticleTag.toMask(condition.getTags()),
+                    normalizedRegion(condition.getRegion()), pageable.getPageNumber(), pageable.getPageSize());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return tagMask == key.tagMask && page == key.page && size == key.size
+                    && sortOrder == key.sortOrder && Objects.equals(region, key.region);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sortOrder, tagMask, region, page, size);
+        }
+
+        @Override
+        public String toString() {
+            return sortOrder + "/" + tagMask + "/" + region + "/" + page + "x" + size;
+        }
+    }
+}
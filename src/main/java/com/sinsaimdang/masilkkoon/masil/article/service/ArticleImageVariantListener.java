@@ -0,0 +1,57 @@
+package com.sinsaimdang.masilkkoon.masil.article.service;
+
+import com.sinsaimdang.masilkkoon.masil.common.image.ImageVariant;
+import com.sinsaimdang.masilkkoon.masil.common.image.ImageVariantProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * 게시글 장소 사진의 변형 이미지(썸네일/카드/웹)를 게시글 저장 커밋 이후 백그라운드에서 생성하고 저장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleImageVariantListener {
+
+    private static final String VARIANT_DIR = "article-images/variants";
+
+    private final ImageVariantProcessor imageVariantProcessor;
+    private final JdbcTemplate jdbcTemplate;
+    private final ArticleDetailCache articleDetailCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleImagesUploaded(ArticleImagesUploadedEvent event) {
+        // 같은 내용의 사진은 같은 URL 로 저장되므로 URL 당 한 번만 생성
+        for (String photoUrl : new LinkedHashSet<>(event.getPhotoUrls())) {
+            imageVariantProcessor.submit(photoUrl, EnumSet.allOf(ImageVariant.class), VARIANT_DIR,
+                    variantUrls -> storeVariants(event.getArticleId(), photoUrl, variantUrls));
+        }
+    }
+
+    // 그 사이 게시글이 수정/삭제되어 원본 사진이 더 이상 없으면 false
+    private boolean storeVariants(Long articleId, String photoUrl, Map<ImageVariant, String> variantUrls) {
+        int updated = jdbcTemplate.update(
+                "UPDATE article_places SET photo_thumbnail_url = ?, photo_card_url = ?, photo_web_url = ? " +
+                        "WHERE article_id = ? AND photo_url = ?",
+                variantUrls.get(ImageVariant.THUMBNAIL), variantUrls.get(ImageVariant.CARD), variantUrls.get(ImageVariant.WEB),
+                articleId, photoUrl);
+        if (updated == 0) {
+            return false;
+        }
+
+        // 대표 사진인 경우 목록 카드용 변형 이미지도 반영
+        jdbcTemplate.update(
+                "UPDATE articles SET cover_photo_card_url = ? WHERE article_id = ? AND cover_photo_url = ?",
+                variantUrls.get(ImageVariant.CARD), articleId, photoUrl);
+        articleDetailCache.evict(articleId);
+        return true;
+    }
+}
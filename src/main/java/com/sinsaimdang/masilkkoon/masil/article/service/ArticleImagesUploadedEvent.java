@@ -0,0 +1,20 @@
+package com.sinsaimdang.masilkkoon.masil.article.service;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 장소 사진이 새로 업로드되었음을 알리는 이벤트 (변형 이미지 생성용)
+ */
+@Getter
+public class ArticleImagesUploadedEvent {
+
+    private final Long articleId;
+    private final List<String> photoUrls;
+
+    public ArticleImagesUploadedEvent(Long articleId, List<String> photoUrls) {
+        this.articleId = articleId;
+        this.photoUrls = List.copyOf(photoUrls);
+    }
+}
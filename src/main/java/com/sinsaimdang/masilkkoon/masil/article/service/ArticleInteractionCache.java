@@ -0,0 +1,196 @@
+package com.sinsaimdang.masilkkoon.masil.article.service;
+
+import com.sinsaimdang.masilkkoon.masil.article.repository.ArticleLikeRepository;
+import com.sinsaimdang.masilkkoon.masil.article.repository.ArticleScrapRepository;
+import com.sinsaimdang.masilkkoon.masil.common.cache.AfterCommit;
+import com.sinsaimdang.masilkkoon.masil.common.cache.CacheGeneration;
+import com.sinsaimdang.masilkkoon.masil.common.cache.LongHashSet;
+import com.sinsaimdang.masilkkoon.masil.common.cache.LruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 로그인 사용자별 좋아요/스크랩 게시글 ID 캐시<br>
+ * 게시글 상세/목록의 isLiked, isScrapped 를 DB 조회 없이 판단하기 위해 사용합니다.
+ * 사용자별 ID 목록은 처음 필요할 때 한 번에 적재되고, 좋아요/스크랩 변경 시 트랜잭션 커밋 이후 그대로 갱신됩니다.
+ * 적재 중에 같은 사용자의 변경이 커밋되면 적재 결과를 버려 오래된 상태가 캐시되지 않도록 합니다.
+ * 적재는 호출한 쪽 트랜잭션(커넥션)에서 수행하여 캐시 미스마다 커넥션을 하나 더 잡지 않습니다.
+ */
+@Component
+@Slf4j
+public class ArticleInteractionCache {
+
+    private static final int GENERATION_STRIPES = 64;
+
+    private final LruCache<Long, UserInteractions> cache;
+    private final ArticleLikeRepository articleLikeRepository;
+    private final ArticleScrapRepository articleScrapRepository;
+    private final TransactionTemplate loadTransaction;
+
+    // 사용자 ID 별로 나눈 변경 세대
+    private final CacheGeneration generation = new CacheGeneration(GENERATION_STRIPES);
+
+    public ArticleInteractionCache(ArticleLikeRepository articleLikeRepository,
+                                   ArticleScrapRepository articleScrapRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${article.interaction-cache.max-users:10000}") int maxUsers,
+                                   @Value("${article.interaction-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.articleLikeRepository = articleLikeRepository;
+        this.articleScrapRepository = articleScrapRepository;
+        this.cache = new LruCache<>(maxUsers, TimeUnit.SECONDS.toMillis(ttlSeconds));
+
+        // 호출한 쪽 트랜잭션이 있으면 참여하고, 없으면 트랜잭션 없이 조회
+        // 별도 트랜잭션(REQUIRES_NEW)을 열면 호출한 쪽 커넥션을 잡은 채 커넥션을 하나 더 기다리게 되어,
+        // 동시 캐시 미스가 커넥션 풀 크기 이상이면 모든 요청이 서로를 기다리며 멈춤
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_SUPPORTS);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    public boolean isLiked(Long userId, Long articleId) {
+        return load(userId).isLiked(articleId);
+    }
+
+    public boolean isScrapped(Long userId, Long articleId) {
+        return load(userId).isScrapped(articleId);
+    }
+
+    /**
+     * @return articleIds 중 사용자가 좋아요를 누른 게시글 ID
+     */
+    public Set<Long> filterLiked(Long userId, Collection<Long> articleIds) {
+        return load(userId).filterLiked(articleIds);
+    }
+
+    /**
+     * @return articleIds 중 사용자가 스크랩한 게시글 ID
+     */
+    public Set<Long> filterScrapped(Long userId, Collection<Long> articleIds) {
+        return load(userId).filterScrapped(articleIds);
+    }
+
+    public void liked(Long userId, Long articleId) {
+        afterCommit(userId, interactions -> interactions.setLiked(articleId, true));
+    }
+
+    public void unliked(Long userId, Long articleId) {
+        afterCommit(userId, interactions -> interactions.setLiked(articleId, false));
+    }
+
+    public void scrapped(Long userId, Long articleId) {
+        afterCommit(userId, interactions -> interactions.setScrapped(articleId, true));
+    }
+
+    public void unscrapped(Long userId, Long articleId) {
+        afterCommit(userId, interactions -> interactions.setScrapped(articleId, false));
+    }
+
+    /**
+     * 사용자 캐시 제거 (회원 탈퇴 등)
+     */
+    public void evict(Long userId) {
+        afterCommit(userId, null);
+    }
+
+    private UserInteractions load(Long userId) {
+        UserInteractions cached = cache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadedAt = generation.current(userId);
+        UserInteractions loaded = loadTransaction.execute(status -> new UserInteractions(
+                articleLikeRepository.findArticleIdsByUserId(userId),
+                articleScrapRepository.findArticleIdsByUserId(userId)));
+
+        // 호출한 쪽 트랜잭션의 스냅샷이 적재 전에 만들어졌다면 그 뒤 적재 시작 전까지 커밋된 변경은 빠질 수 있으나,
+        // 해당 사용자 본인의 좋아요/스크랩 요청과 조회가 그 사이에 겹치는 경우로 범위가 작고 TTL 이 지나면 다시 적재됨
+        if (!generation.putIfUnchanged(cache, userId, loaded, userId, loadedAt)) {
+            log.debug("좋아요/스크랩 캐시 적재 중 변경 발생, 캐시하지 않음 - 사용자 ID: {}", userId);
+        }
+        return loaded;
+    }
+
+    private void afterCommit(Long userId, Consumer<UserInteractions> update) {
+        AfterCommit.run(() -> {
+            generation.advance(userId);
+            if (update == null) {
+                cache.remove(userId);
+                return;
+            }
+            UserInteractions interactions = cache.get(userId);
+            if (interactions != null) {
+                update.accept(interactions);
+            }
+        });
+    }
+
+    private static final class UserInteractions {
+        private final LongHashSet likedArticleIds;
+        private final LongHashSet scrappedArticleIds;
+
+        private UserInteractions(List<Long> likedArticleIds, List<Long> scrappedArticleIds) {
+            this.likedArticleIds = toSet(likedArticleIds);
+            this.scrappedArticleIds = toSet(scrappedArticleIds);
+        }
+
+        private synchronized boolean isLiked(Long articleId) {
+            return likedArticleIds.contains(articleId);
+        }
+
+        private synchronized boolean isScrapped(Long articleId) {
+            return scrappedArticleIds.contains(articleId);
+        }
+
+        private synchronized Set<Long> filterLiked(Collection<Long> articleIds) {
+            return filter(likedArticleIds, articleIds);
+        }
+
+        private synchronized Set<Long> filterScrapped(Collection<Long> articleIds) {
+            return filter(scrappedArticleIds, articleIds);
+        }
+
+        private synchronized void setLiked(Long articleId, boolean liked) {
+            if (liked) {
+                likedArticleIds.add(articleId);
+            } else {
+                likedArticleIds.remove(articleId);
+            }
+        }
+
+        private synchronized void setScrapped(Long articleId, boolean scrapped) {
+            if (scrapped) {
+                scrappedArticleIds.add(articleId);
+            } else {
+                scrappedArticleIds.remove(articleId);
+            }
+        }
+
+        private static Set<Long> filter(LongHashSet ids, Collection<Long> articleIds) {
+            Set<Long> result = new HashSet<>();
+            for (Long articleId : articleIds) {
+                if (ids.contains(articleId)) {
+                    result.add(articleId);
+                }
+            }
+            return result;
+        }
+
+        private static LongHashSet toSet(List<Long> articleIds) {
+            LongHashSet set = new LongHashSet(articleIds.size());
+            articleIds.forEach(set::add);
+            return set;
+        }
+    }
+}
@@ -8,16 +8,23 @@ import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleCreateRequest;
 import com.sinsaimdang.masilkkoon.masil.user.entity.User;
 import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleUpdateRequest;
 import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleSearchCondition;
-import com.sinsaimdang.masilkkoon.masil.region.entity.Region;
+import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleCardResponse;
+import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleCursor;
+import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleDetailSnapshot;
+import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleListItem;
+import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleSortOrder;
+import com.sinsaimdang.masilkkoon.masil.article.dto.CursorPageResponse;
+import com.sinsaimdang.masilkkoon.masil.region.dto.RegionNode;
 import com.sinsaimdang.masilkkoon.masil.region.repository.RegionRepository;
+import com.sinsaimdang.masilkkoon.masil.region.service.RegionHierarchy;
 import com.sinsaimdang.masilkkoon.masil.visit.dto.VisitRequest;
-import com.sinsaimdang.masilkkoon.masil.article.entity.ArticleLike;
 import com.sinsaimdang.masilkkoon.masil.article.repository.ArticleLikeRepository;
 import com.sinsaimdang.masilkkoon.masil.user.repository.UserRepository;
-import com.sinsaimdang.masilkkoon.masil.article.entity.ArticleScrap;
 import com.sinsaimdang.masilkkoon.masil.article.repository.ArticleScrapRepository;
 import com.sinsaimdang.masilkkoon.masil.article.entity.ArticlePlace;
-import com.sinsaimdang.masilkkoon.masil.common.s3.Uploader;
+import com.sinsaimdang.masilkkoon.masil.article.entity.ArticleTag;
+import com.sinsaimdang.masilkkoon.masil.common.s3.ParallelUploader;
+import com.sinsaimdang.masilkkoon.masil.common.s3.ContentAddressedStorage;
 import com.sinsaimdang.masilkkoon.masil.visit.service.VisitService;
 
 
@@ -25,8 +32,11 @@ import com.sinsaimdang.masilkkoon.masil.visit.service.VisitService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j; // Slf4j 임포트
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -40,9 +50,14 @@ import java.util.Set; // Set 임포트 추가 (findAllArticles()의 내부 변
 import java.util.stream.Collectors; // Stream API를 위한 Collectors 임포트
 import java.util.Map;
 import java.util.function.Function;
+import java.util.Iterator;
+import java.util.Collection;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 @Service // 스프링 빈으로 등록
 @RequiredArgsConstructor // final 필드를 이용한 생성자 자동 생성 (의존성 주입)
@@ -52,11 +67,20 @@ public class ArticleService {
 
     private final ArticleRepository articleRepository; // ArticleRepository 주입
     private final RegionRepository regionRepository;
+    private final RegionHierarchy regionHierarchy;
     private final ArticleLikeRepository articleLikeRepository;
     private final UserRepository userRepository;
     private final ArticleScrapRepository articleScrapRepository;
     private final VisitService visitService;
-    private final Uploader uploader;
+    private final ContentAddressedStorage contentAddressedStorage;
+    private final ArticleCountCache articleCountCache;
+    private final ArticleViewCountBuffer articleViewCountBuffer;
+    private final ArticleInteractionCache articleInteractionCache;
+    private final ArticleDetailCache articleDetailCache;
+    private final ArticleFeedCache articleFeedCache;
+    private final ParallelUploader parallelUploader;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모든 게시글 목록 조회 (N+1 문제 해결을 위해 Fetch Join 적용)
@@ -77,19 +101,25 @@ public class ArticleService {
 //    }
 
     /**
-     * 특정 ID의 게시글 단건 조회 (N+1 문제 해결을 위해 Fetch Join 적용)
+     * 특정 ID의 게시글 단건 조회<br>
+     * 본문/작성자/태그/장소는 상세 캐시에서 가져오고(없으면 Fetch Join 으로 조회하여 캐시),
+     * 카운터와 좋아요/스크랩 여부만 요청마다 새로 확인합니다.
      * @param articleId 조회할 게시글 ID
      * @return 게시글 DTO
      * @throws IllegalArgumentException 해당 ID의 게시글을 찾을 수 없을 경우
      */
-    @Transactional // 조회수 증가 로직 때문에 별도 트랜잭션 필요
+    @Transactional(readOnly = true) // 조회수는 버퍼에 누적하므로 엔티티를 변경하지 않음
     public ArticleResponse findArticleById(Long articleId, Long currentUserId) {
         log.info("-> 게시글 단건 조회 서비스 시작 - ID: {}, 역할: {}", articleId, currentUserId);
 
-        // ArticleRepository의 findByIdWithCollections() 메서드를 호출하여
-        // Article 엔티티와 연관된 컬렉션들을 Fetch Join으로 한 번에 가져옵니다.
-        Article article = articleRepository.findByIdWithCollections(articleId)
+        ArticleDetailSnapshot detail = articleDetailCache.get(articleId,
+                        () -> articleRepository.findByIdWithCollections(articleId).map(ArticleDetailSnapshot::new))
                 .orElseThrow(() -> new IllegalArgumentException("Article not found with id: " + articleId));
+        ArticleRepository.Counters counters = articleRepository.findCountersById(articleId)
+                .orElseThrow(() -> {
+                    articleDetailCache.evict(articleId);
+                    return new IllegalArgumentException("Article not found with id: " + articleId);
+                });
         log.debug("게시글 조회 성공 - ID: {}", articleId);
 
         // TODO: (나중에) 일반 사용자(USER)의 지역 인증 구현 시, 여기서 추가 권한 검증 로직 구현
@@ -98,21 +128,22 @@ public class ArticleService {
         //     throw new AccessDeniedException("해당 지역의 게시글에 접근 권한이 없습니다."); // 적절한 예외 정의 필요
         // }
 
-        // 조회수 증가 비즈니스 로직
-        article.incrementViewCount(); // Article 엔티티 내부의 조회수 증가 메서드 호출
+        // 조회수 증가 비즈니스 로직 (행 잠금을 피하기 위해 버퍼에 누적 후 주기적으로 일괄 반영)
+        articleViewCountBuffer.increment(articleId);
         log.debug("게시글 조회수 증가 완료 - ID: {}", articleId);
 
         boolean isLiked = false;
         boolean isScrapped = false;
-        // 비로그인 상태(currentUserId=null)가 아닐 때만 DB를 조회합니다.
+        // 비로그인 상태(currentUserId=null)가 아닐 때만 사용자별 좋아요/스크랩 캐시를 조회합니다.
         if (currentUserId != null) {
-            isLiked = articleLikeRepository.existsByUserIdAndArticleId(currentUserId, articleId);
-            isScrapped = articleScrapRepository.existsByUserIdAndArticleId(currentUserId, articleId);
+            isLiked = articleInteractionCache.isLiked(currentUserId, articleId);
+            isScrapped = articleInteractionCache.isScrapped(currentUserId, articleId);
         }
 
-        // 조회된 Article 엔티티를 ArticleResponse DTO로 변환
+        // 캐시된 상세 정보에 카운터와 좋아요/스크랩 여부를 합쳐 ArticleResponse DTO로 변환
+        int viewCount = (int) Math.min(Integer.MAX_VALUE, counters.getViewCount() + articleViewCountBuffer.pending(articleId));
         log.info("<- 게시글 단건 조회 서비스 완료 - ID: {}", articleId);
-        return new ArticleResponse(article, isLiked, isScrapped);
+        return new ArticleResponse(detail, counters.getScrapCount(), counters.getLikeCount(), viewCount, isLiked, isScrapped);
     }
 
     // TODO: 게시글 생성, 수정, 삭제 등의 비즈니스 로직은 나중에 추가
@@ -143,129 +174,232 @@ public class ArticleService {
      * @return 필터링된 게시글 목록 (페이지네이션 포함)
      */
     @Transactional(readOnly = true)
-    public Page<ArticleResponse> searchArticles(ArticleSearchCondition condition, Pageable pageable, Long currentUserId) {
+    public Page<ArticleCardResponse> searchArticles(ArticleSearchCondition condition, Pageable pageable, Long currentUserId) {
         log.info("-> 게시글 목록 조회 서비스 시작 - 조건: {}, 역할: {}", condition, currentUserId);
 
-        Page<Article> articlesPage = articleRepository.search(condition, pageable);
+        Page<ArticleListItem> articlesPage = searchFeed(condition, pageable);
+
+        // 태그와 '좋아요'/'스크랩' 정보를 페이지 단위로 한 번에 조회하여 카드로 변환
+        Page<ArticleCardResponse> responses = articlesPage.map(toCard(articlesPage.getContent(), currentUserId));
+
+        log.info("<- 게시글 목록 조회 서비스 완료");
+        return responses;
+    }
+
+    /**
+     * 게시글 목록 조회 및 필터링 (전체 개수 없이 다음 페이지 존재 여부만 반환)
+     * @param condition 검색 조건 (지역, 태그)
+     * @param pageable 페이징 정보
+     * @return 필터링된 게시글 목록 (hasNext 포함)
+     */
+    public Slice<ArticleCardResponse> searchArticlesSlice(ArticleSearchCondition condition, Pageable pageable, Long currentUserId) {
+        log.info("-> 게시글 목록(Slice) 조회 서비스 시작 - 조건: {}, 역할: {}", condition, currentUserId);
+
+        Slice<ArticleListItem> articlesSlice = null;
+        if (articleFeedCache.isCacheable(condition, pageable)) {
+            // 캐시된 피드가 있으면 전체 개수로 다음 페이지 존재 여부를 판단
+            ArticleFeedCache.FeedPage cached = articleFeedCache.get(condition, pageable);
+            if (cached != null) {
+                boolean hasNext = cached.getTotal() > pageable.getOffset() + pageable.getPageSize();
+                articlesSlice = new SliceImpl<>(articleRepository.findListItemsByIds(cached.getArticleIds()), pageable, hasNext);
+            }
+        }
+        if (articlesSlice == null) {
+            articlesSlice = articleRepository.searchSlice(condition, pageable);
+        }
+
+        log.info("<- 게시글 목록(Slice) 조회 서비스 완료");
+        return articlesSlice.map(toCard(articlesSlice.getContent(), currentUserId));
+    }
+
+    /**
+     * 자주 조회되는 피드 조건이면 캐시된 게시글 ID 목록으로 한 번에 조회하고,
+     * 캐시에 없으면 검색 후 결과의 ID 목록을 캐시합니다.
+     */
+    private Page<ArticleListItem> searchFeed(ArticleSearchCondition condition, Pageable pageable) {
+        if (!articleFeedCache.isCacheable(condition, pageable)) {
+            return articleRepository.search(condition, pageable);
+        }
+        ArticleFeedCache.FeedPage cached = articleFeedCache.get(condition, pageable);
+        if (cached != null) {
+            log.debug("피드 캐시 사용 - 조건: {}, 페이지: {}", condition, pageable.getPageNumber());
+            return new PageImpl<>(articleRepository.findListItemsByIds(cached.getArticleIds()), pageable, cached.getTotal());
+        }
+        return articleFeedCache.load(condition, pageable, () -> articleRepository.search(condition, pageable));
+    }
 
-        // 비로그인 상태(currentUserId=null)일 경우, 모든 isLiked/isScrapped 값을 false로 설정
-        if (currentUserId == null) {
-            log.debug("비로그인 사용자 요청, 좋아요/스크랩 정보 없이 반환");
-            return articlesPage.map(article -> new ArticleResponse(article, false, false));
+    /**
+     * 현재 사용자의 좋아요/스크랩 여부를 사용자별 캐시에서 확인하여 게시글을 카드 응답 DTO로 변환하는 함수를 만듭니다.
+     * 비로그인 상태(currentUserId=null)일 경우 모두 false로 처리합니다.
+     */
+    private Function<ArticleListItem, ArticleCardResponse> toCard(List<ArticleListItem> articles, Long currentUserId) {
+        if (currentUserId == null || articles.isEmpty()) {
+            return toCard(articles, Collections.emptySet(), Collections.emptySet());
         }
 
-        // 로그인 상태일 경우, DB에서 '좋아요'/'스크랩' 정보를 한 번에 조회하여 처리
-        List<Long> articleIds = articlesPage.getContent().stream()
-                .map(Article::getId)
+        List<Long> articleIds = articleIds(articles);
+        Set<Long> likedArticleIds = articleInteractionCache.filterLiked(currentUserId, articleIds);
+        Set<Long> scrappedArticleIds = articleInteractionCache.filterScrapped(currentUserId, articleIds);
+
+        return toCard(articles, likedArticleIds, scrappedArticleIds);
+    }
+
+    /**
+     * 목록에 포함된 게시글들의 태그를 한 번의 쿼리로 조회하여
+     * 게시글마다 지연 로딩 쿼리가 발생하지 않도록 카드 응답 DTO로 변환하는 함수를 만듭니다.
+     */
+    private Function<ArticleListItem, ArticleCardResponse> toCard(List<ArticleListItem> articles, Set<Long> likedArticleIds, Set<Long> scrappedArticleIds) {
+        Map<Long, List<ArticleTag>> tagsByArticleId = articleRepository.findTagsByArticleIds(articleIds(articles));
+
+        return article -> new ArticleCardResponse(
+                article,
+                tagsByArticleId.getOrDefault(article.getId(), Collections.emptyList()),
+                likedArticleIds.contains(article.getId()),
+                scrappedArticleIds.contains(article.getId()));
+    }
+
+    private List<Long> articleIds(List<ArticleListItem> articles) {
+        return articles.stream()
+                .map(ArticleListItem::getId)
                 .collect(Collectors.toList());
+    }
 
-        Set<Long> likedArticleIds = Collections.emptySet();
-        Set<Long> scrappedArticleIds = Collections.emptySet();
+    /**
+     * 게시글 목록 커서 기반 조회 (무한 스크롤용)<br>
+     * OFFSET 대신 이전 페이지 마지막 게시글의 정렬 키를 기준으로 조회하므로 깊은 페이지도 조회 비용이 일정합니다.
+     * @param condition 검색 조건 (지역, 태그, 정렬)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 게시글 목록과 다음 페이지 커서
+     * @throws IllegalArgumentException 커서가 유효하지 않은 경우
+     */
+    public CursorPageResponse<ArticleCardResponse> searchArticlesByCursor(ArticleSearchCondition condition, String cursor, int size, Long currentUserId) {
+        log.info("-> 게시글 커서 조회 서비스 시작 - 조건: {}, 크기: {}, 요청자 ID: {}", condition, size, currentUserId);
+
+        ArticleSortOrder sortOrder = ArticleSortOrder.from(condition.getSortOrder());
+        ArticleCursor decodedCursor = ArticleCursor.decode(cursor, sortOrder);
 
-        if (!articleIds.isEmpty()) {
-            likedArticleIds = articleLikeRepository.findLikedArticleIdsByUserIdAndArticleIds(currentUserId, articleIds);
-            scrappedArticleIds = articleScrapRepository.findScrappedArticleIdsByUserIdAndArticleIds(currentUserId, articleIds);
+        List<ArticleListItem> articles = articleRepository.searchByCursor(condition, decodedCursor, size);
+
+        boolean hasNext = articles.size() > size;
+        if (hasNext) {
+            articles = articles.subList(0, size);
         }
+        String nextCursor = hasNext
+                ? ArticleCursor.of(sortOrder, articles.get(articles.size() - 1)).encode()
+                : null;
 
-        final Set<Long> finalLikedIds = likedArticleIds;
-        final Set<Long> finalScrappedIds = scrappedArticleIds;
+        List<ArticleCardResponse> content = articles.stream()
+                .map(toCard(articles, currentUserId))
+                .collect(Collectors.toList());
 
-        log.info("<- 게시글 목록 조회 서비스 완료");
-        return articlesPage.map(article -> {
-            boolean isLiked = finalLikedIds.contains(article.getId());
-            boolean isScrapped = finalScrappedIds.contains(article.getId());
-            return new ArticleResponse(article, isLiked, isScrapped);
-        });    }
+        log.info("<- 게시글 커서 조회 서비스 완료 - 조회 수: {}, 다음 페이지 존재: {}", content.size(), hasNext);
+        return new CursorPageResponse<>(content, nextCursor, hasNext);
+    }
 
+    /**
+     * 좋아요 추가 (멱등)<br>
+     * 이미 좋아요를 누른 경우 아무것도 변경하지 않으며, 실제로 행이 추가된 경우에만 좋아요 수를 증가시킵니다.
+     */
     @Transactional
     public void addLike(Long userId, Long articleId) {
         log.info("좋아요 처리 시작 - 사용자 ID :{}, 게시글 ID {}",userId, articleId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다" + userId));
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다" + articleId));
-
-        if (articleLikeRepository.existsByUserIdAndArticleId(userId, articleId)) {
-            throw new IllegalArgumentException("이미 좋아요를 누른 게시글입니다.");
+        if (articleLikeRepository.insertIfAbsent(userId, articleId) == 0) {
+            validateInteractionTarget(userId, articleId);
+            log.info("좋아요 변경 없음 (이미 좋아요 상태) - 사용자 ID :{}, 게시글 ID {}", userId, articleId);
+            return;
         }
+        articleRepository.incrementLikeCount(articleId);
+        articleInteractionCache.liked(userId, articleId);
 
-        ArticleLike articleLike = new ArticleLike(user, article);
-        articleLikeRepository.save(articleLike);
-
-        article.incrementLikeCount();
         log.info("좋아요 처리 완료 - 사용자 ID :{}, 게시글 ID {}",userId, articleId);
     }
 
+    /**
+     * 좋아요 취소 (멱등)<br>
+     * 좋아요를 누르지 않은 경우 아무것도 변경하지 않으며, 실제로 행이 삭제된 경우에만 좋아요 수를 감소시킵니다.
+     */
     @Transactional
     public void removeLike(Long userId, Long articleId) {
         log.info("좋아요 취소 처리 시작 - 사용자 ID :{}, 게시글 ID {}",userId, articleId);
 
-        ArticleLike articleLike = articleLikeRepository.findByUserIdAndArticleId(userId, articleId)
-                .orElseThrow(() -> new IllegalArgumentException("좋아요를 누른 게시글이 아닙니다."));
-
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
-
-        articleLikeRepository.delete(articleLike);
+        if (articleLikeRepository.deleteByUserIdAndArticleId(userId, articleId) == 0) {
+            validateInteractionTarget(userId, articleId);
+            log.info("좋아요 취소 변경 없음 (좋아요 상태 아님) - 사용자 ID :{}, 게시글 ID {}", userId, articleId);
+            return;
+        }
+        articleRepository.decrementLikeCount(articleId);
+        articleInteractionCache.unliked(userId, articleId);
 
-        article.decrementLikeCount();
         log.info("좋아요 취소 처리 완료 - 사용자 ID :{}, 게시글 ID {}",userId, articleId);
     }
 
+    /**
+     * 스크랩 추가 (멱등)<br>
+     * 이미 스크랩한 경우 아무것도 변경하지 않으며, 실제로 행이 추가된 경우에만 스크랩 수를 증가시킵니다.
+     */
     @Transactional
     public void addScrap(Long userId, Long articleId) {
         log.info("스크랩 처리 시작 - 사용자 ID :{}, 게시글 ID {}",userId, articleId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    log.warn("스크랩 추가 실패 : 존재하지 않는 사용자 ID {}", userId);
-                    return new IllegalArgumentException("사용자를 찾을 수 없습니다" + userId);
-                });
-
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> {
-                    log.warn("스크랩 추가 실패 : 존재하지 않는 게시글 ID {}", articleId);
-                    return new IllegalArgumentException("게시글을 찾을 수 없습니다" + articleId);
-                });
-
-        if (articleScrapRepository.existsByUserIdAndArticleId(userId, articleId)) {
-            log.warn("스크랩 추가 실패 - 이미 스크랩한 게시글 : 사용자 ID {}, 게시글 ID {}", userId, articleId);
-            throw new IllegalArgumentException("이미 스크랩한 게시글입니다.");
+        if (articleScrapRepository.insertIfAbsent(userId, articleId) == 0) {
+            validateInteractionTarget(userId, articleId);
+            log.info("스크랩 변경 없음 (이미 스크랩 상태) - 사용자 ID :{}, 게시글 ID {}", userId, articleId);
+            return;
         }
+        articleRepository.incrementScrapCount(articleId);
+        articleInteractionCache.scrapped(userId, articleId);
 
-        ArticleScrap articleScrap = new ArticleScrap(user, article);
-        articleScrapRepository.save(articleScrap);
-
-        article.incrementScrapCount();
+        // 스크랩 목록 개수가 캐시된 사용자만 태그/지역을 조회하여 캐시를 갱신
+        if (articleCountCache.hasScrapEntries(userId)) {
+            articleRepository.findFilterKeyById(articleId).ifPresent(filterKey ->
+                    articleCountCache.scrapAdded(userId, ArticleTag.fromMask(filterKey.getTagMask()), filterKey.getRegionId()));
+        }
 
         log.info("게시글 스크랩 추가 완료 - 사용자 ID:{}, 게시글 ID:{}", userId, articleId);
     }
 
+    /**
+     * 스크랩 취소 (멱등)<br>
+     * 스크랩하지 않은 경우 아무것도 변경하지 않으며, 실제로 행이 삭제된 경우에만 스크랩 수를 감소시킵니다.
+     */
     @Transactional
     public void removeScrap(Long userId, Long articleId) {
         log.info("게시글 스크랩 삭제 시작 - 사용자 ID: {}, 게시글 ID: {}", userId, articleId);
 
-        ArticleScrap articleScrap = articleScrapRepository.findByUserIdAndArticleId(userId, articleId)
-                .orElseThrow(() -> {
-                    log.warn("스크랩 삭제 실패 - 스크랩하지 않은 게시글: 사용자 ID {}, 게시글 ID {}", userId, articleId);
-                    return new IllegalArgumentException("스크랩하지 않은 게시글입니다.");
-                });
-
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> {
-                    log.warn("스크랩 삭제 실패 - 존재하지 않는 게시글: {}", articleId);
-                    return new IllegalArgumentException("게시글을 찾을 수 없습니다: " + articleId);
-                });
+        if (articleScrapRepository.deleteByUserIdAndArticleId(userId, articleId) == 0) {
+            validateInteractionTarget(userId, articleId);
+            log.info("스크랩 삭제 변경 없음 (스크랩 상태 아님) - 사용자 ID: {}, 게시글 ID: {}", userId, articleId);
+            return;
+        }
+        articleRepository.decrementScrapCount(articleId);
+        articleInteractionCache.unscrapped(userId, articleId);
 
-        articleScrapRepository.delete(articleScrap);
-        article.decrementScrapCount();
+        if (articleCountCache.hasScrapEntries(userId)) {
+            articleRepository.findFilterKeyById(articleId).ifPresent(filterKey ->
+                    articleCountCache.scrapRemoved(userId, ArticleTag.fromMask(filterKey.getTagMask()), filterKey.getRegionId()));
+        }
 
         log.info("게시글 스크랩 삭제 완료 - 사용자 ID: {}, 게시글 ID: {}", userId, articleId);
     }
 
+    /**
+     * 좋아요/스크랩 변경이 없을 때만 호출 - 존재하지 않는 게시글/사용자 요청인지 구분합니다.
+     */
+    private void validateInteractionTarget(Long userId, Long articleId) {
+        if (!articleRepository.existsById(articleId)) {
+            log.warn("좋아요/스크랩 처리 실패 - 존재하지 않는 게시글 ID {}", articleId);
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다" + articleId);
+        }
+        if (!userRepository.existsById(userId)) {
+            log.warn("좋아요/스크랩 처리 실패 - 존재하지 않는 사용자 ID {}", userId);
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다" + userId);
+        }
+    }
+
     @Transactional(readOnly = true)
-    public Page<ArticleResponse> getScrapedArticles(Long userId, ArticleSearchCondition condition, Pageable pageable) {
+    public Page<ArticleCardResponse> getScrapedArticles(Long userId, ArticleSearchCondition condition, Pageable pageable) {
         log.info("사용자 스크랩 목록 조회 시작 - 사용자 ID: {}, 검색 조건 {}, 페이지: {}", userId, condition, pageable.getPageNumber());
 
         // 사용자 존재 여부 확인
@@ -274,23 +408,42 @@ public class ArticleService {
             throw new IllegalArgumentException("존재하지 않는 사용자입니다: " + userId);
         }
 
-        Page<Article> scrapedArticles = articleRepository.searchScrapedArticles(userId, condition, pageable);
+        Page<ArticleListItem> scrapedArticles = articleRepository.searchScrapedArticles(userId, condition, pageable);
 
-        List<Long> articleIds = scrapedArticles.getContent().stream()
-                .map(Article::getId)
-                .collect(Collectors.toList());
+        log.info("사용자 스크랩 목록 조회 완료 - 사용자 ID: {}, 조회된 게시글 수: {}",
+                userId, scrapedArticles.getContent().size());
 
-        Set<Long> likedArticleIds = articleIds.isEmpty() ? Collections.emptySet() :
-                articleLikeRepository.findLikedArticleIdsByUserIdAndArticleIds(userId, articleIds);
+        return scrapedArticles.map(toScrapedCard(scrapedArticles.getContent(), userId));
+    }
 
-        log.info("사용자 스크랩 목록 조회 완료 - 사용자 ID: {}, 조회된 게시글 수: {}",
+    /**
+     * 사용자 스크랩 목록 조회 (전체 개수 없이 다음 페이지 존재 여부만 반환)
+     */
+    @Transactional(readOnly = true)
+    public Slice<ArticleCardResponse> getScrapedArticlesSlice(Long userId, ArticleSearchCondition condition, Pageable pageable) {
+        log.info("사용자 스크랩 목록(Slice) 조회 시작 - 사용자 ID: {}, 검색 조건 {}, 페이지: {}", userId, condition, pageable.getPageNumber());
+
+        if (!userRepository.existsById(userId)) {
+            log.warn("스크랩 목록 조회 실패 - 존재하지 않는 사용자: {}", userId);
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다: " + userId);
+        }
+
+        Slice<ArticleListItem> scrapedArticles = articleRepository.searchScrapedArticlesSlice(userId, condition, pageable);
+
+        log.info("사용자 스크랩 목록(Slice) 조회 완료 - 사용자 ID: {}, 조회된 게시글 수: {}",
                 userId, scrapedArticles.getContent().size());
 
-        return scrapedArticles.map(article -> {
-            boolean isLiked = likedArticleIds.contains(article.getId());
-            // 스크랩 목록 조회이므로 isScrapped는 항상 true입니다.
-            return new ArticleResponse(article, isLiked, true);
-        });
+        return scrapedArticles.map(toScrapedCard(scrapedArticles.getContent(), userId));
+    }
+
+    // 스크랩 목록 조회이므로 isScrapped는 항상 true입니다.
+    private Function<ArticleListItem, ArticleCardResponse> toScrapedCard(List<ArticleListItem> scrapedArticles, Long userId) {
+        List<Long> articleIds = articleIds(scrapedArticles);
+
+        Set<Long> likedArticleIds = articleIds.isEmpty() ? Collections.emptySet() :
+                articleInteractionCache.filterLiked(userId, articleIds);
+
+        return toCard(scrapedArticles, likedArticleIds, new HashSet<>(articleIds));
     }
 
     /**
@@ -300,49 +453,37 @@ public class ArticleService {
      * @return 해당 사용자가 작성한 게시글 목록 (페이지네이션 포함)
      */
     @Transactional(readOnly = true)
-    public Page<ArticleResponse> findArticlesByUserId(Long userId, Long currentUserId, Pageable pageable) {
+    public Page<ArticleCardResponse> findArticlesByUserId(Long userId, Long currentUserId, Pageable pageable) {
         log.info("-> 특정 사용자 작성 게시글 목록 조회 서비스 시작 - 사용자 ID: {}", userId);
 
         // Repository 메서드를 호출
-        Page<Article> articles = articleRepository.findByUser_Id(userId, pageable);
+        Page<ArticleListItem> articles = articleRepository.findByAuthor(userId, pageable);
 
-        // 비로그인 상태(currentUserId=null)일 경우, false로 처리
-        if (currentUserId == null) {
-            return articles.map(article -> new ArticleResponse(article, false, false));
-        }
-
-        // 로그인 상태일 경우, 현재 로그인한 사용자를 기준으로 계산
-        List<Long> articleIds = articles.getContent().stream().map(Article::getId).collect(Collectors.toList());
-        Set<Long> likedArticleIds = articleIds.isEmpty() ? Collections.emptySet() :
-                articleLikeRepository.findLikedArticleIdsByUserIdAndArticleIds(currentUserId, articleIds);
-        Set<Long> scrappedArticleIds = articleIds.isEmpty() ? Collections.emptySet() :
-                articleScrapRepository.findScrappedArticleIdsByUserIdAndArticleIds(currentUserId, articleIds);
+        // 태그와 현재 로그인한 사용자 기준의 '좋아요'/'스크랩' 정보를 한 번에 조회하여 카드로 변환
+        Page<ArticleCardResponse> responses = articles.map(toCard(articles.getContent(), currentUserId));
 
         log.info("<- 특정 사용자 작성 게시글 목록 조회 서비스 완료 - 조회된 게시글 수: {}", articles.getContent().size());
-
-        // 조회된 결과를 ArticleResponse DTO 페이지로 변환하여 반환
-        return articles.map(article -> {
-            boolean isLiked = likedArticleIds.contains(article.getId());
-            boolean isScrapped = scrappedArticleIds.contains(article.getId());
-            return new ArticleResponse(article, isLiked, isScrapped);
-        });
+        return responses;
     }
 
     /**
-     * 게시글을 생성하는 메서드
+     * 게시글을 생성하는 메서드<br>
+     * 이미지는 트랜잭션 밖에서 동시에 업로드하고, DB 커넥션은 마지막 저장에만 사용합니다.
+     * 저장에 실패하면 업로드된 이미지를 삭제합니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ArticleResponse createArticle(ArticleCreateRequest request, List<MultipartFile> images, Long currentUserId) throws IOException {
         log.info("-> 게시글 생성 서비스 시작 - 작성자 ID: {}", currentUserId);
 
         // 1. 사용자 및 지역 정보 확인.
-        User currentUser = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + currentUserId));
+        if (!userRepository.existsById(currentUserId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + currentUserId);
+        }
 
-        Region childRegion = findRegionFromCreateRequest(request.getPlaces());
+        RegionNode childRegion = findRegionFromCreateRequest(request.getPlaces());
 
         // 게시글 작성 전, 해당 지역 방문 여부 확인
-        if (!visitService.hasUserVisitedRegion(currentUser.getId(), childRegion.getId())) {
+        if (!visitService.hasUserVisitedRegion(currentUserId, childRegion.getId())) {
             throw new IllegalArgumentException("해당 지역을 방문한 기록이 없어 게시글을 작성할 수 없습니다.");
         }
 
@@ -371,19 +512,20 @@ public class ArticleService {
             throw new IllegalArgumentException("장소의 개수와 이미지의 개수가 일치하지 않습니다.");
         }
 
-        // 3. 장소 및 이미지 처리
-        List<ArticlePlace> articlePlaces = new ArrayList<>();
-        for (int i = 0; i < sortedPlaces.size(); i++) {
-            ArticleCreateRequest.PlaceInfo placeInfo = sortedPlaces.get(i);
-            MultipartFile imageFile = images.get(i); // 정렬된 순서에 맞는 이미지 파일
-
-            // 각 이미지 파일이 비어있지 않은지 다시 한번 확인합니다.
+        // 각 이미지 파일이 비어있지 않은지 업로드 전에 확인합니다.
+        for (int i = 0; i < images.size(); i++) {
+            MultipartFile imageFile = images.get(i);
             if (imageFile == null || imageFile.isEmpty()) {
                 throw new IllegalArgumentException("업로드된 파일 중 비어있는 파일이 있습니다. (순서: " + (i + 1) + ")");
             }
+        }
+
+        // 3. 이미지를 S3(또는 로컬)에 동시에 업로드하고 정렬된 장소 순서대로 URL을 받습니다.
+        List<String> photoUrls = parallelUploader.uploadAll(images, "article-images");
 
-            // 각 이미지를 S3(또는 로컬)에 업로드하고 URL을 받습니다.
-            String photoUrl = uploader.upload(imageFile, "article-images");
+        List<ArticlePlace> articlePlaces = new ArrayList<>();
+        for (int i = 0; i < sortedPlaces.size(); i++) {
+            ArticleCreateRequest.PlaceInfo placeInfo = sortedPlaces.get(i);
 
             // 업로드된 URL을 포함하여 ArticlePlace 객체를 생성합니다.
             ArticlePlace articlePlace = new ArticlePlace(
@@ -391,20 +533,32 @@ public class ArticleService {
                     placeInfo.getPlaceName(),
                     placeInfo.getRoadAddress().getAddressName(),
                     placeInfo.getDescription(),
-                    photoUrl
+                    photoUrls.get(i)
             );
             articlePlaces.add(articlePlace);
         }
 
-        // 4. 게시글 엔티티 생성
-        Article article = request.toEntity(currentUser, childRegion, articlePlaces);
-        log.debug("Article 엔티티 생성 완료");
-
-        // 5. Article 엔티티를 데이터베이스에 저장
-        Article savedArticle = articleRepository.save(article);
-        log.info("게시글 저장 완료 - ID: {}, 제목: {}", savedArticle.getId(), savedArticle.getTitle());
-
-        return new ArticleResponse(savedArticle);
+        // 4~5. 게시글 엔티티 생성 및 저장 (이 구간에서만 트랜잭션/커넥션 사용)
+        try {
+            return transactionTemplate.execute(status -> {
+                Article article = request.toEntity(userRepository.getReferenceById(currentUserId),
+                        regionRepository.getReferenceById(childRegion.getId()), articlePlaces);
+                log.debug("Article 엔티티 생성 완료");
+
+                Article savedArticle = articleRepository.save(article);
+                articleCountCache.articleCreated(savedArticle.getArticleTags(), childRegion.getId());
+                articleFeedCache.articleCreated(savedArticle.getArticleTags(), childRegion.getId());
+                // 커밋 이후 백그라운드에서 변형 이미지(썸네일/카드/웹) 생성
+                eventPublisher.publishEvent(new ArticleImagesUploadedEvent(savedArticle.getId(), photoUrls));
+                log.info("게시글 저장 완료 - ID: {}, 제목: {}", savedArticle.getId(), savedArticle.getTitle());
+
+                return new ArticleResponse(savedArticle);
+            });
+        } catch (RuntimeException e) {
+            log.warn("게시글 저장 실패 - 업로드된 이미지 {}개 삭제", photoUrls.size());
+            parallelUploader.deleteAll(photoUrls);
+            throw e;
+        }
     }
 
     /**
@@ -428,157 +582,230 @@ public class ArticleService {
             throw new SecurityException("게시글을 삭제할 권한이 없습니다.");
         }
 
-        // 3. 각 장소(ArticlePlace)에 포함된 모든 이미지 URL을 찾아서 S3에서 삭제합니다.
-        for (ArticlePlace place : article.getArticlePlaces()) {
-            if (place.getPhotoUrl() != null && !place.getPhotoUrl().isEmpty()) {
-                uploader.delete(place.getPhotoUrl());
-                log.info("S3 이미지 삭제: {}", place.getPhotoUrl());
-            }
-        }
+        // 3. 각 장소(ArticlePlace)에 포함된 모든 이미지 URL(원본 + 변형 이미지)의 참조를 해제합니다.
+        //    마지막 참조였던 파일은 같은 트랜잭션에서 삭제 예약만 하고, 실제 삭제는 커밋 이후 백그라운드에서 처리됩니다.
+        List<String> storedUrls = article.getArticlePlaces().stream()
+                .flatMap(place -> place.getStoredPhotoUrls().stream())
+                .collect(Collectors.toList());
+        contentAddressedStorage.releaseAll(storedUrls);
+        log.info("게시글 이미지 {}개 참조 해제", storedUrls.size());
 
         // 4. 연관된 '좋아요'와 '스크랩' 데이터 먼저 삭제
         articleLikeRepository.deleteAllByArticleId(articleId);
         articleScrapRepository.deleteAllByArticleId(articleId);
 
         // 5. 권한 확인이 통과되면 게시글을 삭제합니다.
+        articleCountCache.articleDeleted(article.getArticleTags(), article.getRegion().getId());
+        articleFeedCache.articleDeleted(article.getArticleTags(), article.getRegion().getId());
         articleRepository.delete(article);
+        articleViewCountBuffer.discard(articleId);
+        articleDetailCache.evict(articleId);
         log.info("게시글 삭제 완료 - ID: {}", articleId);
     }
 
     /**
-     * 게시글을 수정하는 메서드
+     * 게시글을 수정하는 메서드<br>
+     * 새 이미지는 트랜잭션 밖에서 동시에 업로드하고, 수정이 커밋된 뒤에 더 이상 쓰지 않는 기존 이미지를 삭제합니다.
+     * 수정에 실패하면 새로 업로드된 이미지를 삭제합니다.
      * @param articleId 수정할 게시글 ID
      * @param request 수정할 내용이 담긴 DTO
      * @param newImages 새로 업로드되거나 교체될 이미지 파일 목록
      * @param currentUserId 현재 로그인한 사용자 ID
      * @return 수정된 게시글 정보를 담은 DTO
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ArticleResponse updateArticle(Long articleId, ArticleUpdateRequest request, List<MultipartFile> newImages, Long currentUserId) throws IOException {
         log.info("게시글 수정 서비스 호출 - 게시글 ID: {}, 요청자 ID: {}", articleId, currentUserId);
 
 
-        // 1. 게시글 조회 및 수정 권한 확인
-        Article article = articleRepository.findByIdWithCollections(articleId)
+        // 1. 게시글 조회 및 수정 권한 확인 (업로드 전에 실패할 요청을 걸러냄, 저장 시 다시 확인)
+        Long authorId = articleRepository.findAuthorIdById(articleId)
                 .orElseThrow(() -> new IllegalArgumentException("ID " + articleId + "에 해당하는 게시글을 찾을 수 없습니다."));
+        checkArticleAuthor(authorId, currentUserId);
 
-        if (!article.getUser().getId().equals(currentUserId)) {
-            log.warn("게시글 수정 권한 없음 - 게시글 작성자: {}, 요청자: {}", article.getUser().getId(), currentUserId);
-            throw new SecurityException("게시글을 수정할 권한이 없습니다.");
+        RegionNode childRegion = findRegionFromUpdateRequest(request.getPlaces());
+
+        // 모든 장소가 대표 지역과 동일한 '시/군/구'에 속하는지 검증
+        boolean allPlacesAreInSameRegion = request.getPlaces().stream()
+                .allMatch(place -> {
+                    String placeRegionName = place.getRoadAddress().getRegion2DepthName(); // 각 장소의 '시/군/구' 이름
+                    return childRegion.getName().equals(placeRegionName);
+                });
+
+        if (!allPlacesAreInSameRegion) {
+            throw new IllegalArgumentException("모든 장소는 동일한 시/군/구에 속해야 합니다.");
         }
 
-        // 2. 삭제할 이미지 URL과 유지될 장소 목록 관리
+        // 2. 사진을 '교체'하거나 '새로 추가'하는 장소 수만큼 newImages 를 앞에서부터 동시에 업로드합니다.
+        long placesWithoutPhoto = request.getPlaces().stream()
+                .filter(placeInfo -> placeInfo.getPhotoUrl() == null || placeInfo.getPhotoUrl().isEmpty())
+                .count();
+        List<MultipartFile> imagesToUpload = newImages == null ? Collections.emptyList()
+                : newImages.subList(0, (int) Math.min(placesWithoutPhoto, newImages.size()));
+        List<String> uploadedUrls = parallelUploader.uploadAll(imagesToUpload, "article-images");
+
+        // 3. 게시글 엔티티 업데이트 (이 구간에서만 트랜잭션/커넥션 사용)
+        ArticleResponse response;
+        try {
+            response = transactionTemplate.execute(status -> applyUpdate(articleId, request, childRegion, uploadedUrls, currentUserId));
+        } catch (RuntimeException e) {
+            log.warn("게시글 수정 실패 - 새로 업로드된 이미지 {}개 삭제", uploadedUrls.size());
+            parallelUploader.deleteAll(uploadedUrls);
+            throw e;
+        }
 
-        // 2-1. 기존 DB의 모든 이미지 URL을 "삭제 대상 후보"로 설정합니다.
-        Set<String> urlsToDelete = article.getArticlePlaces().stream()
-                .map(ArticlePlace::getPhotoUrl)
-                .filter(url -> url != null && !url.isEmpty())
-                .collect(Collectors.toSet());
+        log.info("<- 게시글 수정 서비스 완료 - ID: {}", articleId);
+        return response;
+    }
+
+    private ArticleResponse applyUpdate(Long articleId, ArticleUpdateRequest request, RegionNode childRegion,
+                                        List<String> uploadedUrls, Long currentUserId) {
+        Article article = articleRepository.findByIdWithCollections(articleId)
+                .orElseThrow(() -> new IllegalArgumentException("ID " + articleId + "에 해당하는 게시글을 찾을 수 없습니다."));
+        checkArticleAuthor(article.getUser().getId(), currentUserId);
+
+        // 사진이 있는 기존 장소를 모두 "참조 해제 대상 후보"로 설정합니다.
+        // 같은 사진을 여러 장소에서 쓰면 장소마다 참조가 하나씩이므로 URL 집합이 아닌 장소 목록으로 관리합니다.
+        List<ArticlePlace> placesToRelease = article.getArticlePlaces().stream()
+                .filter(place -> place.getPhotoUrl() != null && !place.getPhotoUrl().isEmpty())
+                .collect(Collectors.toCollection(ArrayList::new));
 
         List<ArticlePlace> updatedArticlePlaces = new ArrayList<>();
-        int newImageIndex = 0;
+        // 변형 이미지를 새로 생성해야 하는 사진 (새로 업로드한 사진 + 이어받을 변형 이미지가 없는 유지 사진)
+        List<String> variantTargetUrls = new ArrayList<>(uploadedUrls);
+        int uploadedIndex = 0;
 
-        // 2-2. 요청에 들어온 장소 목록을 순회하며 최종 장소 목록을 만듭니다.
+        // 요청에 들어온 장소 목록을 순회하며 최종 장소 목록을 만듭니다.
         for (ArticleUpdateRequest.PlaceInfo placeInfo : request.getPlaces()) {
             String finalPhotoUrl = placeInfo.getPhotoUrl();
+            ArticlePlace previousPlace = null;
 
-            // Case A: 사진을 '유지'하는 경우, 삭제 대상 후보에서 제거합니다.
+            // Case A: 사진을 '유지'하는 경우, 해당 사진을 쓰던 기존 장소 하나를 해제 대상 후보에서 제거합니다.
             if (finalPhotoUrl != null && !finalPhotoUrl.isEmpty()) {
-                urlsToDelete.remove(finalPhotoUrl);
+                previousPlace = removePlaceWithPhoto(placesToRelease, finalPhotoUrl);
+                if (previousPlace == null) {
+                    // 기존 사진을 장소 하나 더 사용하는 경우 - 참조만 추가 (이 트랜잭션과 함께 커밋/롤백)
+                    contentAddressedStorage.retain(finalPhotoUrl);
+                    // 변형 이미지는 같은 사진을 쓰는 기존 장소에서 이어받고, 그런 장소가 없으면 새로 생성
+                    previousPlace = findPlaceWithPhoto(article.getArticlePlaces(), finalPhotoUrl);
+                    if (previousPlace == null) {
+                        variantTargetUrls.add(finalPhotoUrl);
+                    }
+                }
             }
-            // Case B: 사진을 '교체'하거나 '새로 추가'하는 경우
+            // Case B: 사진을 '교체'하거나 '새로 추가'하는 경우, 미리 업로드한 이미지를 순서대로 사용합니다.
             else {
-                // newImages 목록에서 순서대로 새 이미지를 꺼내 업로드합니다.
-                if (newImages != null && newImageIndex < newImages.size()) {
-                    finalPhotoUrl = uploader.upload(newImages.get(newImageIndex++), "article-images");
-                } else {
-                    finalPhotoUrl = null; // 이미지가 없는 경우
-                }
+                finalPhotoUrl = uploadedIndex < uploadedUrls.size() ? uploadedUrls.get(uploadedIndex++) : null;
             }
-            // 최종 장소 목록에 추가합니다.
-            updatedArticlePlaces.add(new ArticlePlace(
+            // 최종 장소 목록에 추가합니다. (유지하는 사진은 이미 생성된 변형 이미지를 이어받음)
+            ArticlePlace updatedPlace = new ArticlePlace(
                     placeInfo.getPlaceOrder(),
                     placeInfo.getPlaceName(),
                     placeInfo.getRoadAddress().getAddressName(),
                     placeInfo.getDescription(),
                     finalPhotoUrl
-            ));
+            );
+            updatedPlace.inheritVariants(previousPlace);
+            updatedArticlePlaces.add(updatedPlace);
         }
 
-        // 3. 최종적으로 삭제 대상에 남은 URL들을 S3(또는 로컬)에서 삭제합니다.
-        for (String imageUrlToDelete : urlsToDelete) {
-            uploader.delete(imageUrlToDelete);
-            log.info("S3에서 기존 이미지 삭제: {}", imageUrlToDelete);
+        // 해제 대상 장소의 원본 사진은 장소마다 참조를 하나씩 해제하고,
+        // 변형 이미지는 참조 수로 관리하지 않으므로 남은 장소가 이어받지 않은 것만 해제(삭제)합니다.
+        Set<String> keptUrls = updatedArticlePlaces.stream()
+                .flatMap(place -> place.getStoredPhotoUrls().stream())
+                .collect(Collectors.toSet());
+        List<String> urlsToRelease = new ArrayList<>();
+        for (ArticlePlace place : placesToRelease) {
+            urlsToRelease.add(place.getPhotoUrl());
+            place.getStoredPhotoUrls().stream()
+                    .filter(url -> !url.equals(place.getPhotoUrl()) && !keptUrls.contains(url) && !urlsToRelease.contains(url))
+                    .forEach(urlsToRelease::add);
+        }
+        // 같은 트랜잭션에서 참조 해제 및 삭제 예약 (실제 삭제는 커밋 이후 백그라운드에서 처리)
+        contentAddressedStorage.releaseAll(urlsToRelease);
+
+        // Article 엔티티의 update 메서드를 호출하여 변경사항 적용 (검색 개수 캐시 갱신을 위해 이전 지역/태그 보관)
+        Set<ArticleTag> previousTags = new HashSet<>(article.getArticleTags());
+        Long previousRegionId = article.getRegion().getId();
+        article.update(request, regionRepository.getReferenceById(childRegion.getId()), updatedArticlePlaces);
+        articleCountCache.articleChanged(previousTags, previousRegionId, article.getArticleTags(), childRegion.getId());
+        articleFeedCache.articleChanged(previousTags, previousRegionId, article.getArticleTags(), childRegion.getId());
+        articleDetailCache.evict(articleId);
+
+        // 응답을 반환하기 전, '좋아요'와 '스크랩' 상태를 다시 조회합니다.
+        boolean isLiked = false;
+        boolean isScrapped = false;
+        if (currentUserId != null) {
+            isLiked = articleInteractionCache.isLiked(currentUserId, articleId);
+            isScrapped = articleInteractionCache.isScrapped(currentUserId, articleId);
         }
 
-        // 4. 게시글 엔티티 업데이트
-        Region childRegion = findRegionFromUpdateRequest(request.getPlaces());
+        if (!variantTargetUrls.isEmpty()) {
+            // 커밋 이후 백그라운드에서 새 사진의 변형 이미지 생성
+            eventPublisher.publishEvent(new ArticleImagesUploadedEvent(articleId, variantTargetUrls));
+        }
 
-        // 모든 장소가 대표 지역과 동일한 '시/군/구'에 속하는지 검증
-        boolean allPlacesAreInSameRegion = request.getPlaces().stream()
-                .allMatch(place -> {
-                    String placeRegionName = place.getRoadAddress().getRegion2DepthName(); // 각 장소의 '시/군/구' 이름
-                    return childRegion.getName().equals(placeRegionName);
-                });
+        return new ArticleResponse(article, articleViewCountBuffer.pending(articleId), isLiked, isScrapped);
+    }
 
-        if (!allPlacesAreInSameRegion) {
-            throw new IllegalArgumentException("모든 장소는 동일한 시/군/구에 속해야 합니다.");
+    // 주어진 사진을 쓰는 장소 하나를 목록에서 제거하여 반환 (없으면 null)
+    private static ArticlePlace removePlaceWithPhoto(List<ArticlePlace> places, String photoUrl) {
+        for (Iterator<ArticlePlace> iterator = places.iterator(); iterator.hasNext(); ) {
+            ArticlePlace place = iterator.next();
+            if (photoUrl.equals(place.getPhotoUrl())) {
+                iterator.remove();
+                return place;
+            }
         }
+        return null;
+    }
 
-        // Article 엔티티의 update 메서드를 호출하여 변경사항 적용
-        article.update(request, childRegion, updatedArticlePlaces);
+    // 주어진 사진을 쓰는 장소 하나를 반환 (없으면 null)
+    private static ArticlePlace findPlaceWithPhoto(Collection<ArticlePlace> places, String photoUrl) {
+        return places.stream()
+                .filter(place -> photoUrl.equals(place.getPhotoUrl()))
+                .findFirst()
+                .orElse(null);
+    }
 
-        // ▼▼▼ [핵심 수정] 응답을 반환하기 전, '좋아요'와 '스크랩' 상태를 다시 조회합니다. ▼▼▼
-        boolean isLiked = false;
-        boolean isScrapped = false;
-        if (currentUserId != null) {
-            isLiked = articleLikeRepository.existsByUserIdAndArticleId(currentUserId, articleId);
-            isScrapped = articleScrapRepository.existsByUserIdAndArticleId(currentUserId, articleId);
+    private void checkArticleAuthor(Long authorId, Long currentUserId) {
+        if (!authorId.equals(currentUserId)) {
+            log.warn("게시글 수정 권한 없음 - 게시글 작성자: {}, 요청자: {}", authorId, currentUserId);
+            throw new SecurityException("게시글을 수정할 권한이 없습니다.");
         }
-
-        log.info("<- 게시글 수정 서비스 완료 - ID: {}", articleId, isLiked, isScrapped);
-        return new ArticleResponse(article, isLiked, isScrapped);
     }
 
-    private Region findRegionFromCreateRequest(List<ArticleCreateRequest.PlaceInfo> places) {
+    private RegionNode findRegionFromCreateRequest(List<ArticleCreateRequest.PlaceInfo> places) {
         // 1. 장소 목록에서 첫 번째 장소를 찾습니다.
         ArticleCreateRequest.PlaceInfo firstPlace = places.stream()
                 .min(Comparator.comparingInt(ArticleCreateRequest.PlaceInfo::getPlaceOrder)) // placeOrder가 1이 아니어도 가장 작은 순서의 장소를 찾음
                 .orElseThrow(() -> new IllegalArgumentException("첫 번째 장소 정보가 반드시 필요합니다."));
 
-        // 2. 첫 번째 장소의 roadAddress 객체를 가져옵니다.
-        VisitRequest.RoadAddress address = firstPlace.getRoadAddress();
-        if (address == null || address.getRegion1DepthName() == null || address.getRegion2DepthName() == null) {
-            throw new IllegalArgumentException("첫 번째 장소의 주소 정보(roadAddress)가 올바르지 않습니다.");
-        }
-
-        // 3. 주소의 1depth 이름으로 부모 Region(예: 경기도)을 DB에서 찾습니다.
-        Region parentRegion = regionRepository.findByNameAndParentIsNull(address.getRegion1DepthName())
-                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 상위 지역입니다: " + address.getRegion1DepthName()));
-
-        // 4. 부모 Region과 2depth 이름으로 자식 Region(예: 수원시)을 DB에서 찾아서 반환합니다.
-        return regionRepository.findByNameAndParent(address.getRegion2DepthName(), parentRegion)
-                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 하위 지역입니다: " + address.getRegion2DepthName()));
+        // 2. 첫 번째 장소의 주소로 지역을 찾습니다.
+        return findRegionByAddress(firstPlace.getRoadAddress());
     }
 
-    private Region findRegionFromUpdateRequest(List<ArticleUpdateRequest.PlaceInfo> places) {
+    private RegionNode findRegionFromUpdateRequest(List<ArticleUpdateRequest.PlaceInfo> places) {
         // 1. 장소 목록에서 첫 번째 장소를 찾습니다.
         ArticleUpdateRequest.PlaceInfo firstPlace = places.stream()
                 .min(Comparator.comparingInt(ArticleUpdateRequest.PlaceInfo::getPlaceOrder))
                 .orElseThrow(() -> new IllegalArgumentException("첫 번째 장소 정보가 반드시 필요합니다."));
 
-        // 2. 첫 번째 장소의 roadAddress 객체를 가져옵니다.
-        VisitRequest.RoadAddress address = firstPlace.getRoadAddress();
+        // 2. 첫 번째 장소의 주소로 지역을 찾습니다.
+        return findRegionByAddress(firstPlace.getRoadAddress());
+    }
+
+    private RegionNode findRegionByAddress(VisitRequest.RoadAddress address) {
         if (address == null || address.getRegion1DepthName() == null || address.getRegion2DepthName() == null) {
             throw new IllegalArgumentException("첫 번째 장소의 주소 정보(roadAddress)가 올바르지 않습니다.");
         }
 
-        // 3. 주소의 1depth 이름으로 부모 Region(예: 경기도)을 DB에서 찾습니다.
-        Region parentRegion = regionRepository.findByNameAndParentIsNull(address.getRegion1DepthName())
+        // 3. 주소의 1depth 이름으로 부모 지역(예: 경기도)을 메모리의 지역 계층에서 찾습니다.
+        RegionNode parentRegion = regionHierarchy.findTopLevel(address.getRegion1DepthName())
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 상위 지역입니다: " + address.getRegion1DepthName()));
 
-        // 4. 부모 Region과 2depth 이름으로 자식 Region(예: 수원시)을 DB에서 찾아서 반환합니다.
-        return regionRepository.findByNameAndParent(address.getRegion2DepthName(), parentRegion)
+        // 4. 부모 지역과 2depth 이름으로 자식 지역(예: 수원시)을 찾아서 반환합니다.
+        return regionHierarchy.findChild(parentRegion.getId(), address.getRegion2DepthName())
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 하위 지역입니다: " + address.getRegion2DepthName()));
     }
 
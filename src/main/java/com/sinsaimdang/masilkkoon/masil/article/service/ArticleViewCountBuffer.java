@@ -0,0 +1,104 @@
+package com.sinsaimdang.masilkkoon.masil.article.service;
+
+import com.sinsaimdang.masilkkoon.masil.common.cache.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 쓰기 지연(write-behind) 버퍼<br>
+ * 조회 시마다 articles 행을 갱신하지 않고 메모리에 누적한 뒤,
+ * 주기적으로 한 번의 배치 UPDATE(view_count = view_count + ?)로 반영합니다.
+ * 애플리케이션 종료 시 남은 조회수를 모두 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE articles SET view_count = view_count + ? WHERE article_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 게시글 ID -> 아직 반영되지 않은 조회수 (증가/제거는 항목 잠금 안에서, 반영은 잠금 없이 sumThenReset 으로 읽음)
+    private final ConcurrentHashMap<Long, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+
+    public void increment(Long articleId) {
+        add(articleId, 1L);
+    }
+
+    // 항목 잠금 안에서 더함 - 유휴 항목 제거와 겹쳐 맵에서 빠진 카운터에 더해지지 않도록 함
+    private void add(Long articleId, long delta) {
+        pendingCounts.compute(articleId, (id, adder) -> {
+            LongAdder counter = adder != null ? adder : new LongAdder();
+            counter.add(delta);
+            return counter;
+        });
+    }
+
+    /**
+     * @return 아직 DB에 반영되지 않은 조회수
+     */
+    public long pending(Long articleId) {
+        LongAdder adder = pendingCounts.get(articleId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 삭제된 게시글의 남은 조회수를 버립니다.<br>
+     * 트랜잭션 안에서 호출되면 커밋 이후에 버립니다. (삭제가 롤백되면 조회수 유지)
+     */
+    public void discard(Long articleId) {
+        AfterCommit.run(() -> pendingCounts.remove(articleId));
+    }
+
+    @Scheduled(fixedDelayString = "${article.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pendingCounts.entrySet()) {
+            // sumThenReset 이후에 들어온 증가분은 다음 반영 때 처리됨
+            LongAdder adder = entry.getValue();
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                batchArgs.add(new Object[]{delta, entry.getKey()});
+            } else {
+                // 지난 주기 이후 조회가 없는 게시글은 제거하여 한 번이라도 조회된 게시글이 계속 쌓이지 않도록 함
+                removeIdle(entry.getKey());
+            }
+        }
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+            log.debug("조회수 반영 완료 - 게시글 수: {}", batchArgs.size());
+        } catch (RuntimeException e) {
+            // 반영에 실패한 조회수는 버퍼에 되돌려 다음 주기에 다시 시도
+            for (Object[] args : batchArgs) {
+                add((Long) args[1], (Long) args[0]);
+            }
+            log.error("조회수 반영 실패 - 게시글 수: {}, 다음 주기에 재시도합니다.", batchArgs.size(), e);
+        }
+    }
+
+    // 증가와 같은 항목 잠금 안에서 확인 - 그 사이 증가가 있었으면 남겨 두고 다음 주기에 반영
+    private void removeIdle(Long articleId) {
+        pendingCounts.computeIfPresent(articleId, (id, adder) -> adder.sum() == 0 ? null : adder);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("애플리케이션 종료 - 남은 조회수 반영");
+        flush();
+    }
+}
@@ -0,0 +1,30 @@
+package com.sinsaimdang.masilkkoon.masil.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 Access Token 폐기 기준 (로그아웃 시각)<br>
+ * revokedBefore(epoch 초) 이전에 발급된 해당 사용자의 Access Token 은 모든 서버에서 거부됩니다.
+ * 서버마다 주기적으로 읽어 메모리에 반영하며, Access Token 유효 기간이 지난 행은 삭제됩니다.
+ *
+ * @see com.sinsaimdang.masilkkoon.masil.auth.service.VerifiedTokenCache
+ */
+@Entity
+@Table(name = "access_token_revocations", indexes = {
+        @Index(name = "idx_access_token_revocations_revoked_before", columnList = "revoked_before")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccessTokenRevocation {
+
+    @Id
+    @Column(length = 100)
+    private String email;
+
+    // 토큰 발급 시각(iat)과 같은 초 단위 - 서버 시간대와 무관하게 비교
+    @Column(name = "revoked_before", nullable = false)
+    private long revokedBefore;
+}
@@ -8,7 +8,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_email", columnList = "email"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
 @Getter
 @Setter
 @Builder
@@ -21,8 +24,9 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = false, length = 500)
-    private String token;
+    // 토큰 원문 대신 SHA-256 다이제스트를 저장하고 고유 인덱스로 조회 (TokenDigest)
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64, columnDefinition = "CHAR(64)")
+    private String tokenHash;
 
     @Column(nullable = false)
     private String email;
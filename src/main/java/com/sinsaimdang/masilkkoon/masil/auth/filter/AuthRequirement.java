@@ -0,0 +1,10 @@
+package com.sinsaimdang.masilkkoon.masil.auth.filter;
+
+/**
+ * 요청 경로별 인증 요구 수준
+ */
+public enum AuthRequirement {
+    PUBLIC,   // 토큰을 확인하지 않음
+    OPTIONAL, // 유효한 토큰이 있으면 사용자 정보를 설정하고, 없거나 유효하지 않으면 비로그인 사용자로 처리
+    REQUIRED  // 유효한 토큰이 없으면 401
+}
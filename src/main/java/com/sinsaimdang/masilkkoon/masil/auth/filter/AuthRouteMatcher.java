@@ -0,0 +1,195 @@
+package com.sinsaimdang.masilkkoon.masil.auth.filter;
+
+import java.util.Arrays;
+
+/**
+ * (HTTP 메서드 + 경로 패턴) -> {@link AuthRequirement} 규칙을 경로 세그먼트 트리로 미리 만들어 두고 요청 경로를 판정합니다.<br>
+ * 판정은 경로를 '/' 단위로 한 번 훑으며 세그먼트마다 자식 노드를 찾는 방식이라 세그먼트 수에 비례하고, 문자열을 잘라 만들지 않으므로 객체를 생성하지 않습니다.
+ * <p>
+ * 패턴 문법
+ * <ul>
+ *     <li>일반 세그먼트 : 그대로 일치 (예: /api/auth/login)</li>
+ *     <li>{id} : 숫자로만 된 세그먼트 하나와 일치 (예: /api/user/{id}/profile)</li>
+ *     <li>** : 마지막에만 사용, 해당 경로와 그 하위 경로 전체와 일치 (예: /api/articles/**)</li>
+ * </ul>
+ * 일반 세그먼트가 {id} 보다 우선하며(되돌아가 다시 찾지 않음), 정확히 일치하는 규칙이 ** 규칙보다, 더 깊은 ** 규칙이 얕은 규칙보다 우선합니다.
+ * 빈 세그먼트(연속된 '/', 끝의 '/')는 무시합니다. 일치하는 규칙이 없으면 기본값을 돌려줍니다.
+ */
+public final class AuthRouteMatcher {
+
+    public static final String ANY_METHOD = "*";
+
+    private static final String NUMBER_SEGMENT = "{id}";
+    private static final String DESCENDANTS = "**";
+
+    // 메서드별 규칙 배열의 인덱스
+    private static final int ANY = 0;
+    private static final int GET = 1;
+    private static final int POST = 2;
+    private static final int PUT = 3;
+    private static final int PATCH = 4;
+    private static final int DELETE = 5;
+    private static final int OTHER = 6;
+    private static final int METHOD_COUNT = 7;
+
+    private final Node root;
+    private final AuthRequirement defaultRequirement;
+
+    private AuthRouteMatcher(Node root, AuthRequirement defaultRequirement) {
+        this.root = root;
+        this.defaultRequirement = defaultRequirement;
+    }
+
+    public static Builder builder(AuthRequirement defaultRequirement) {
+        return new Builder(defaultRequirement);
+    }
+
+    public AuthRequirement match(String method, String path) {
+        int methodIndex = methodIndex(method);
+        Node node = root;
+        AuthRequirement descendantMatch = node.rule(node.descendantRules, methodIndex);
+
+        int length = path.length();
+        int start = 0;
+        while (start < length) {
+            if (path.charAt(start) == '/') {
+                start++;
+                continue;
+            }
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+
+            node = node.child(path, start, end);
+            if (node == null) {
+                return descendantMatch != null ? descendantMatch : defaultRequirement;
+            }
+            AuthRequirement rule = node.rule(node.descendantRules, methodIndex);
+            if (rule != null) {
+                descendantMatch = rule;
+            }
+            start = end;
+        }
+
+        AuthRequirement exactMatch = node.rule(node.exactRules, methodIndex);
+        if (exactMatch != null) {
+            return exactMatch;
+        }
+        return descendantMatch != null ? descendantMatch : defaultRequirement;
+    }
+
+    private static int methodIndex(String method) {
+        switch (method) {
+            case ANY_METHOD: return ANY;
+            case "GET": return GET;
+            case "POST": return POST;
+            case "PUT": return PUT;
+            case "PATCH": return PATCH;
+            case "DELETE": return DELETE;
+            default: return OTHER;
+        }
+    }
+
+    private static boolean isDigits(String path, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = path.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static final class Builder {
+        private final Node root = new Node();
+        private final AuthRequirement defaultRequirement;
+
+        private Builder(AuthRequirement defaultRequirement) {
+            this.defaultRequirement = defaultRequirement;
+        }
+
+        /**
+         * @param method HTTP 메서드 (모든 메서드는 {@link #ANY_METHOD})
+         * @param pattern 경로 패턴
+         * @throws IllegalStateException 같은 메서드와 패턴의 규칙이 이미 있는 경우
+         */
+        public Builder rule(String method, String pattern, AuthRequirement requirement) {
+            Node node = root;
+            boolean descendants = false;
+            String[] segments = Arrays.stream(pattern.split("/"))
+                    .filter(segment -> !segment.isEmpty())
+                    .toArray(String[]::new);
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (DESCENDANTS.equals(segment)) {
+                    if (i != segments.length - 1) {
+                        throw new IllegalArgumentException("** 는 패턴의 마지막에만 사용할 수 있습니다: " + pattern);
+                    }
+                    descendants = true;
+                } else {
+                    node = node.getOrCreateChild(segment);
+                }
+            }
+
+            AuthRequirement[] rules = descendants ? node.descendantRules : node.exactRules;
+            int methodIndex = methodIndex(method);
+            if (rules[methodIndex] != null) {
+                throw new IllegalStateException("중복된 인증 규칙입니다: " + method + " " + pattern);
+            }
+            rules[methodIndex] = requirement;
+            return this;
+        }
+
+        public AuthRouteMatcher build() {
+            return new AuthRouteMatcher(root, defaultRequirement);
+        }
+    }
+
+    private static final class Node {
+        private String[] literals = new String[0];
+        private Node[] literalChildren = new Node[0];
+        private Node numberChild;
+        private final AuthRequirement[] exactRules = new AuthRequirement[METHOD_COUNT];
+        private final AuthRequirement[] descendantRules = new AuthRequirement[METHOD_COUNT];
+
+        // 메서드별 규칙이 없으면 모든 메서드 규칙 사용
+        private AuthRequirement rule(AuthRequirement[] rules, int methodIndex) {
+            AuthRequirement rule = rules[methodIndex];
+            return rule != null ? rule : rules[ANY];
+        }
+
+        private Node child(String path, int start, int end) {
+            int length = end - start;
+            for (int i = 0; i < literals.length; i++) {
+                String literal = literals[i];
+                if (literal.length() == length && path.regionMatches(start, literal, 0, length)) {
+                    return literalChildren[i];
+                }
+            }
+            if (numberChild != null && isDigits(path, start, end)) {
+                return numberChild;
+            }
+            return null;
+        }
+
+        private Node getOrCreateChild(String segment) {
+            if (NUMBER_SEGMENT.equals(segment)) {
+                if (numberChild == null) {
+                    numberChild = new Node();
+                }
+                return numberChild;
+            }
+            for (int i = 0; i < literals.length; i++) {
+                if (literals[i].equals(segment)) {
+                    return literalChildren[i];
+                }
+            }
+            literals = Arrays.copyOf(literals, literals.length + 1);
+            literalChildren = Arrays.copyOf(literalChildren, literalChildren.length + 1);
+            literals[literals.length - 1] = segment;
+            literalChildren[literalChildren.length - 1] = new Node();
+            return literalChildren[literalChildren.length - 1];
+        }
+    }
+}
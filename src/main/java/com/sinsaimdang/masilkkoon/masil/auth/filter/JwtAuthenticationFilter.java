@@ -1,6 +1,7 @@
 package com.sinsaimdang.masilkkoon.masil.auth.filter;
 
-import com.sinsaimdang.masilkkoon.masil.auth.util.JwtUtil;
+import com.sinsaimdang.masilkkoon.masil.auth.service.VerifiedTokenCache;
+import com.sinsaimdang.masilkkoon.masil.auth.util.JwtClaims;
 
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,20 +10,32 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
-import java.util.regex.Pattern;
 
-import org.springframework.util.AntPathMatcher;
+import static com.sinsaimdang.masilkkoon.masil.auth.filter.AuthRouteMatcher.ANY_METHOD;
 
 @RequiredArgsConstructor
 @Slf4j
 public class JwtAuthenticationFilter implements Filter {
 
-    private final JwtUtil jwtUtil;
-
-    // 다른 사람 프로필, 게시글 조회를 위한 정규식 패턴 추가
-    // 예: /api/users/1/profile, /api/users/123/articles 와 같은 주소를 허용합니다.
-    private static final Pattern USER_PUBLIC_URI_PATTERN =
-            Pattern.compile("^/api/user/\\d+/(profile|articles|followers|followings)$");
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // 경로별 인증 규칙 - 규칙에 없는 경로는 인증 필요 (테스트에서 규칙 표를 확인하기 위해 package-private)
+    static final AuthRouteMatcher AUTH_ROUTES = AuthRouteMatcher.builder(AuthRequirement.REQUIRED)
+            // 회원가입, 로그인 등 인증 전에 사용하는 기능
+            .rule(ANY_METHOD, "/api/auth/signup/**", AuthRequirement.PUBLIC)
+            .rule(ANY_METHOD, "/api/auth/login/**", AuthRequirement.PUBLIC)
+            .rule(ANY_METHOD, "/api/auth/refresh/**", AuthRequirement.PUBLIC)
+            .rule(ANY_METHOD, "/api/auth/check-email/**", AuthRequirement.PUBLIC)
+            .rule(ANY_METHOD, "/api/auth/check-nickname/**", AuthRequirement.PUBLIC)
+            .rule(ANY_METHOD, "/api/directions/**", AuthRequirement.PUBLIC)
+            // 게시글 조회 - 로그인 사용자는 좋아요/스크랩 여부 포함
+            .rule("GET", "/api/articles/**", AuthRequirement.OPTIONAL)
+            // 다른 사람 프로필, 게시글, 팔로워/팔로잉 조회
+            .rule("GET", "/api/user/{id}/profile", AuthRequirement.OPTIONAL)
+            .rule("GET", "/api/user/{id}/articles", AuthRequirement.OPTIONAL)
+            .rule("GET", "/api/user/{id}/followers", AuthRequirement.OPTIONAL)
+            .rule("GET", "/api/user/{id}/followings", AuthRequirement.OPTIONAL)
+            .build();
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -41,35 +54,33 @@ public class JwtAuthenticationFilter implements Filter {
 
         log.debug("JWT 필터 처리 시작 - {}, {}", method, requestURI);
 
-        // 게시글 조회(GET) 요청은 인증 없이 허용
-        if ("GET".equalsIgnoreCase(method) && requestURI.startsWith("/api/articles")) {
-            log.debug("게시글 조회(GET) 요청 - 인증 절차를 건너뜁니다: {}", requestURI);
+        // 1. OPTIONS 요청은 CORS preflight 요청이므로 검증 없이 통과
+        if ("OPTIONS".equals(method)) {
+            log.debug("OPTIONS 요청 - 인증 건너뛰기");
             chain.doFilter(request, response);
             return;
         }
 
-        // 다른 사람 프로필, 게시글 조회(GET) 요청은 인증 없이 허용
-        if ("GET".equalsIgnoreCase(method) && USER_PUBLIC_URI_PATTERN.matcher(requestURI).matches()) {
-            log.debug("다른 사용자 정보 조회(GET) 요청 - 인증 절차를 건너뜁니다: {}", requestURI);
-            chain.doFilter(request, response);
-            return;
-        }
+        AuthRequirement requirement = AUTH_ROUTES.match(method, requestURI);
 
-        // 1. 인증이 필요하지 않은 기능들에 대해서는 필터를 통한 검증을 건너뜀
-        if(isPublicPath(requestURI)) {
+        // 2. 인증이 필요하지 않은 기능들에 대해서는 필터를 통한 검증을 건너뜀
+        if (requirement == AuthRequirement.PUBLIC) {
             log.debug("공개 경로 접근 - 인증 생략: {}", requestURI);
             chain.doFilter(request, response);
             return;
         }
 
-        // 2. OPTIONS 요청은 CORS preflight 요청이므로 검증 없이 통과
-        if ("OPTIONS".equals(method)) {
-            log.debug("OPTIONS 요청 - 인증 건너뛰기");
+        // 3. 선택 인증 경로는 유효한 토큰이 있을 때만 사용자 정보를 설정하고, 그 외에는 비로그인 사용자로 처리
+        if (requirement == AuthRequirement.OPTIONAL) {
+            String token = extractTokenFromHeader(httpRequest);
+            if (token != null && !validateTokenAndSetAttributes(token, httpRequest)) {
+                log.debug("선택 인증 경로 - 유효하지 않은 토큰, 비로그인 사용자로 처리: {}", requestURI);
+            }
             chain.doFilter(request, response);
             return;
         }
 
-        // 3. 토큰 검증이 필요한 경우
+        // 4. 토큰 검증이 필요한 경우
 
         try {
             String token = extractTokenFromHeader(httpRequest);
@@ -100,29 +111,6 @@ public class JwtAuthenticationFilter implements Filter {
         }
     }
 
-    // 공개 경로인지 확인
-    private boolean isPublicPath(String requestURI) {
-        System.out.println("=== 요청 URI 체크: " + requestURI + " ==="); // 임시 로그
-        // 공개 경로 목록 (인증 없이 접근 가능한 목록)
-        String[] publicPaths = {
-                "/api/auth/signup",
-                "/api/auth/login",
-                "/api/auth/refresh",
-                "/api/auth/check-email",
-                "/api/auth/check-nickname",
-                "/api/directions"
-        };
-
-        for (String publicPath : publicPaths) {
-            if (requestURI.startsWith(publicPath)) {
-                System.out.println("=== 공개 경로 매칭: " + publicPath + " ==="); // 임시 로그
-                return true;
-            }
-        }
-
-        return false;
-    }
-
     // HTTP Request에서 JWT 토큰을 추출
     private String extractTokenFromHeader(HttpServletRequest request) {
         String authorizationHeader = request.getHeader("Authorization");
@@ -153,11 +141,13 @@ public class JwtAuthenticationFilter implements Filter {
 
     private boolean validateTokenAndSetAttributes(String token, HttpServletRequest request) {
         try {
-            Long userId = jwtUtil.extractUserId(token);
-            String userEmail = jwtUtil.extractUserEmail(token);
-            String userName = jwtUtil.extractUserName(token);
-            String userNickname = jwtUtil.extractUserNickname(token);
-            String userRole = jwtUtil.extractUserRole(token);
+            // 이미 검증된 토큰이면 캐시 조회 한 번으로 처리, 처음 보는 토큰만 서명 검증과 디코딩 수행
+            JwtClaims claims = verifiedTokenCache.verify(token);
+            Long userId = claims.getUserId();
+            String userEmail = claims.getUserEmail();
+            String userName = claims.getUserName();
+            String userNickname = claims.getUserNickname();
+            String userRole = claims.getUserRole();
 
             if (userId == null || userEmail == null) {
                 log.warn("토큰에서 이메일 또는 Id를 찾을 수 없음");
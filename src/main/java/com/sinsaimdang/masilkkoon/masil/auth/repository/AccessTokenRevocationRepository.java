@@ -0,0 +1,30 @@
+package com.sinsaimdang.masilkkoon.masil.auth.repository;
+
+import com.sinsaimdang.masilkkoon.masil.auth.entity.AccessTokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface AccessTokenRevocationRepository extends JpaRepository<AccessTokenRevocation, String> {
+
+    // 이미 있으면 더 늦은 시각으로만 갱신 (여러 서버에서 동시에 로그아웃해도 기준이 앞당겨지지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO access_token_revocations (email, revoked_before) VALUES (:email, :revokedBefore) " +
+            "ON DUPLICATE KEY UPDATE revoked_before = GREATEST(revoked_before, VALUES(revoked_before))",
+            nativeQuery = true)
+    void upsert(@Param("email") String email, @Param("revokedBefore") long revokedBefore);
+
+    // 주기적 동기화용 - revoked_before 인덱스 범위만 읽음
+    List<AccessTokenRevocation> findByRevokedBeforeGreaterThanEqual(long since);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AccessTokenRevocation r WHERE r.revokedBefore < :before")
+    int deleteByRevokedBeforeLessThan(@Param("before") long before);
+}
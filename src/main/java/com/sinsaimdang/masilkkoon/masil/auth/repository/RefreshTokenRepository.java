@@ -13,19 +13,37 @@ import java.util.Optional;
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String Token);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
     Optional<RefreshToken> findByEmail(String email);
 
+    /**
+     * 리프레시 토큰 교체 (Rotation) - 만료되지 않은 기존 토큰 행을 새 토큰으로 한 번의 UPDATE 로 바꿉니다.<br>
+     * 고유 인덱스로 한 행만 잠그므로 같은 토큰으로 동시에 갱신을 요청해도 한 요청만 성공합니다.
+     *
+     * @return 교체된 행 수, 0 이면 저장되지 않았거나 만료되었거나 이미 사용된 토큰
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.tokenHash = :newTokenHash, rt.expiresAt = :newExpiresAt " +
+            "WHERE rt.tokenHash = :tokenHash AND rt.expiresAt > :now")
+    int rotate(@Param("tokenHash") String tokenHash,
+               @Param("newTokenHash") String newTokenHash,
+               @Param("newExpiresAt") LocalDateTime newExpiresAt,
+               @Param("now") LocalDateTime now);
+
     @Modifying
     @Query("DELETE FROM RefreshToken rt WHERE rt.email = :email")
     void deleteByEmail(@Param("email") String email);
 
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.token = :token")
-    void deleteByToken(@Param("token") String token);
+    @Query("DELETE FROM RefreshToken rt WHERE rt.tokenHash = :tokenHash")
+    void deleteByTokenHash(@Param("tokenHash") String tokenHash);
 
+    // 만료된 토큰을 오래된 순으로 최대 limit 개 삭제 (expires_at 인덱스 범위만 잠금)
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :now")
-    void deleteExpiredTokens(@Param("now")LocalDateTime now);
+    @Query(value = "DELETE FROM refresh_tokens WHERE expires_at < :now ORDER BY expires_at LIMIT :limit",
+            nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    long countByExpiresAtBefore(LocalDateTime now);
 }
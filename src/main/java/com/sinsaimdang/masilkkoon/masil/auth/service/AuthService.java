@@ -3,20 +3,27 @@ package com.sinsaimdang.masilkkoon.masil.auth.service;
 import com.sinsaimdang.masilkkoon.masil.auth.entity.RefreshToken;
 import com.sinsaimdang.masilkkoon.masil.auth.repository.RefreshTokenRepository;
 import com.sinsaimdang.masilkkoon.masil.auth.util.JwtUtil;
+import com.sinsaimdang.masilkkoon.masil.auth.util.TokenDigest;
 import com.sinsaimdang.masilkkoon.masil.auth.validator.SignupValidator;
 import com.sinsaimdang.masilkkoon.masil.user.entity.User;
 import com.sinsaimdang.masilkkoon.masil.user.entity.UserRole;
 import com.sinsaimdang.masilkkoon.masil.user.repository.UserRepository;
+import io.jsonwebtoken.JwtException;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 
 @Service
@@ -27,9 +34,12 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final SignupValidator signupValidator;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
 
     @Value("${jwt.refresh-token-expiration}")
     private Long refreshTokenExpiration;
@@ -40,9 +50,9 @@ public class AuthService {
     /**
      * 회원가입 메서드 <br>
      * 1. 입력값 전처리 (공백 제거, 이메일 소문자 처리) <br>
-     * 2. 이메일, 닉네임 중복검사 <br>
-     * 3. 비밀번호 암호화 <br>
-     * 4. 사용자 생성 <br>
+     * 2. 패턴 & 예약어 검사 <br>
+     * 3. 비밀번호 암호화 - DB 커넥션을 잡기 전에 수행 <br>
+     * 4. 이메일, 닉네임 중복검사 및 사용자 생성 (짧은 트랜잭션) <br>
      * @param email
      * @param password
      * @param name
@@ -51,7 +61,7 @@ public class AuthService {
      * @throws IllegalArgumentException : 중복된 이메일/닉네임 or 입력값이 유효하지 않은 경우
      * @throws SecurityException : 보안정책에 위반되는 입력값의 경우
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User signup(String email, String password, String name, String nickname) {
         log.info("회원가입 시도 : 이메일 = {}", email);
 
@@ -60,9 +70,6 @@ public class AuthService {
 
         log.debug("정규화 된 회원가입 데이터 : {}", normalizedData);
 
-        // 중복 검사
-        checkDuplicates(normalizedData.getEmail(), normalizedData.getNickname());
-
         // 패턴 & 예약어 검사
         signupValidator.validateSignupData(
                 normalizedData.getEmail(),
@@ -71,19 +78,24 @@ public class AuthService {
                 normalizedData.getNickname()
         );
 
-        // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(password);
-
-        // 사용자 생성
-        User user = User.builder()
-                .email(email)
-                .password(encodedPassword)
-                .name(name)
-                .nickname(nickname)
-                .profileImageUrl(defaultProfileImageUrl)
-                .build();
-
-        User savedUser = userRepository.save(user);
+        // 비밀번호 암호화 (해시 전용 스레드 풀에서 수행)
+        // 해시를 기다리는 동안 DB 커넥션을 잡고 있지 않도록 DB 조회보다 먼저 수행 (OSIV 는 처음 잡은 커넥션을 요청 끝까지 유지함)
+        String encodedPassword = passwordHasher.encode(password);
+
+        User savedUser = transactionTemplate.execute(status -> {
+            // 중복 검사
+            checkDuplicates(normalizedData.getEmail(), normalizedData.getNickname());
+
+            // 사용자 생성
+            User user = User.builder()
+                    .email(email)
+                    .password(encodedPassword)
+                    .name(name)
+                    .nickname(nickname)
+                    .profileImageUrl(defaultProfileImageUrl)
+                    .build();
+            return userRepository.save(user);
+        });
         log.info("회원가입 완료 : ID : {} / Email : {}", savedUser.getId(), savedUser.getEmail());
 
         return savedUser;
@@ -92,14 +104,14 @@ public class AuthService {
     /**
      * 로그인을 처리하고, JWT 토큰을 발급합니다<br>
      * 1. 입력값 정규화
-     * 2. 사용자 조회
-     * 3. 비밀번호 검증
-     * 4. 토큰 발급 및 갱신
+     * 2. 사용자 조회 (커넥션을 바로 반환하는 짧은 조회)
+     * 3. 비밀번호 검증 - DB 커넥션을 잡지 않은 상태에서 수행
+     * 4. 토큰 발급 및 갱신 (짧은 트랜잭션)
      * @param email
      * @param password
      * @return 액세스 토큰, 리프레쉬 토큰
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Map<String, String> login(String email, String password) {
         log.info("로그인 시도 : 이메일 {}", email);
 
@@ -108,18 +120,22 @@ public class AuthService {
         log.debug("정규화된 로그인 데이터: {}", normalizedLoginData);
 
         // 사용자 조회
-        User user = userRepository.findByEmail(normalizedLoginData.getEmail())
+        // JPA 로 조회하면 OSIV 가 커넥션을 요청 끝까지 유지하여 비밀번호 검증 중에도 커넥션을 잡고 있게 되므로, JdbcTemplate 으로 조회하고 바로 반환
+        LoginUser user = findLoginUser(normalizedLoginData.getEmail())
                 .orElseThrow(() -> {
                     log.warn("존재하지 않는 이메일로 로그인을 시도했습니다 : {}", normalizedLoginData.getEmail());
                     return new IllegalArgumentException("잘못된 이메일 또는 비밀번호 입니다");
                 });
 
         // 비밀번호 검증
-        if(! passwordEncoder.matches(normalizedLoginData.getPassword(), user.getPassword())) {
+        if(! passwordHasher.matches(normalizedLoginData.getPassword(), user.getPassword())) {
             log.warn("잘못된 비밀번호로 로그인을 시도했습니다 : {}", normalizedLoginData.getEmail());
             throw new IllegalArgumentException("잘못된 이메일 또는 비밀번호 입니다");
         }
 
+        // 해시 비용이 현재 설정보다 낮으면 비동기로 다시 해시
+        passwordHasher.upgradeEncodingAsync(user.getId(), normalizedLoginData.getPassword(), user.getPassword());
+
         // 액세스 토큰 발급
         String accessToken = jwtUtil.generateAccessToken(
                 user.getId(),
@@ -132,11 +148,13 @@ public class AuthService {
         // 리프레쉬 토큰 발급
         String refreshToken = jwtUtil.generateRefreshToken(user.getEmail());
 
-        // 기존 Refresh Token 무효화 (삭제)
-        refreshTokenRepository.deleteByEmail(email);
+        transactionTemplate.executeWithoutResult(status -> {
+            // 기존 Refresh Token 무효화 (삭제)
+            refreshTokenRepository.deleteByEmail(user.getEmail());
 
-        // 새로운 리프레쉬 토큰 서버에 저장
-        saveRefreshToken(email, refreshToken);
+            // 새로운 리프레쉬 토큰 서버에 저장
+            saveRefreshToken(user.getEmail(), refreshToken);
+        });
 
         log.info("로그인 성공 : ID = {}, 이메일 = {}", user.getId(), user.getEmail());
 
@@ -168,6 +186,7 @@ public class AuthService {
         // Refresh Token 삭제
         try {
             refreshTokenRepository.deleteByEmail(normalizedEmail);
+            verifiedTokenCache.revokeUser(normalizedEmail);
             log.info("로그아웃 완료 : 이메일 = {}", normalizedEmail);
         } catch (Exception e) {
             log.error("로그아웃 중 토큰 삭제 실패 - 이메일: {}", normalizedEmail, e);
@@ -177,8 +196,9 @@ public class AuthService {
 
     /**
      * 액세스 토큰이 만료되었을 경우 리프레쉬 토큰을 통해 액세스 토큰을 갱신합니다
-     * 1. 사용자의 리프레쉬 토큰과 서버에 저장된 리프레쉬 토큰을 대조합니다
-     * 2. 리프레쉬 토큰 또한 만료되었을 경우 재로그인이 필요합니다.
+     * 1. 리프레쉬 토큰의 서명과 만료를 검증하고 이메일을 꺼냅니다
+     * 2. 서버에 저장된 리프레쉬 토큰을 새 토큰으로 교체합니다. (토큰 다이제스트 고유 인덱스로 UPDATE 한 번)
+     *    저장되지 않았거나 만료되었거나 이미 사용된 토큰이면 재로그인이 필요합니다.
      * 3. 사용자 정보를 조회하고 정보를 바탕으로 새로운 액세스 토큰을 발급합니다.
      * @param refreshToken
      * @return 액세스 토큰 & 리프레쉬 토큰
@@ -187,23 +207,33 @@ public class AuthService {
     public Map<String, String> refreshAccessToken(String refreshToken) {
         log.info("토큰 갱신 시도");
 
-        // 리프레시 토큰 조회
-        RefreshToken tokenEntity = refreshTokenRepository.findByToken(refreshToken)
-                .orElseThrow(() -> {
-                    log.warn("토큰 갱신 실패 : 유효하지 않은 리프레시 토큰");
-                    return new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다");
-                });
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다");
+        }
 
-        // 리프레시 토큰 만료 확인
-        if (tokenEntity.isExpired()) {
-            log.warn("토큰 갱신 실패 : 만료된 리프레시 토큰, 이메일 = {}", tokenEntity.getEmail());
-            throw new IllegalArgumentException("만료된 리프레시 토큰입니다, 재로그인 필요");
+        // 리프레시 토큰 검증 (서명, 만료)
+        String email;
+        try {
+            email = jwtUtil.extractSubject(refreshToken);
+        } catch (JwtException e) {
+            log.warn("토큰 갱신 실패 : 유효하지 않은 리프레시 토큰 - {}", e.getMessage());
+            throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다");
+        }
+
+        // 기존 토큰을 새 토큰으로 교체
+        String newRefreshToken = jwtUtil.generateRefreshToken(email);
+        LocalDateTime now = LocalDateTime.now();
+        int rotated = refreshTokenRepository.rotate(TokenDigest.sha256Hex(refreshToken),
+                TokenDigest.sha256Hex(newRefreshToken), refreshTokenExpiresAt(now), now);
+        if (rotated == 0) {
+            log.warn("토큰 갱신 실패 : 저장되지 않았거나 만료된 리프레시 토큰, 이메일 = {}", email);
+            throw new IllegalArgumentException("유효하지 않거나 만료된 리프레시 토큰입니다, 재로그인 필요");
         }
 
         // 사용자 조회
-        User user = userRepository.findByEmail(tokenEntity.getEmail())
+        User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> {
-                    log.warn("토큰 갱신 실패 : 존재하지 않는 사용자, 이메일 = {}", tokenEntity.getEmail());
+                    log.warn("토큰 갱신 실패 : 존재하지 않는 사용자, 이메일 = {}", email);
                     return new IllegalArgumentException("존재하지 않는 이메일입니다");
                 });
 
@@ -215,10 +245,6 @@ public class AuthService {
                 user.getNickname(),
                 UserRole.USER.name());
 
-        String newRefreshToken = jwtUtil.generateRefreshToken(user.getEmail());
-        refreshTokenRepository.deleteByToken(refreshToken);
-        saveRefreshToken(user.getEmail(), newRefreshToken);
-
         Map<String, String> tokens = new HashMap<>();
         tokens.put("accessToken", newAccessToken);
         tokens.put("refreshToken", newRefreshToken);
@@ -247,11 +273,11 @@ public class AuthService {
 
     // 리프레시 토큰 저장
     private void saveRefreshToken(String email, String token) {
-        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(refreshTokenExpiration/1000);
         LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = refreshTokenExpiresAt(now);
 
         RefreshToken refreshToken = RefreshToken.builder()
-                .token(token)
+                .tokenHash(TokenDigest.sha256Hex(token))
                 .email(email)
                 .expiresAt(expiresAt)
                 .createdAt(now)
@@ -261,12 +287,17 @@ public class AuthService {
         log.debug("리프레시 토큰 저장 완료 : 이메일 = {}", email);
     }
 
-    // 만료 리프레시 토큰 삭제
-    @Transactional
-    public void deleteExpiredRefreshTokens() {
-        log.info("만료된 리프레시 토큰 삭제 시작");
-        refreshTokenRepository.deleteExpiredTokens(LocalDateTime.now());
-        log.info("만료된 리프레시 토큰 삭제 완료");
+    private LocalDateTime refreshTokenExpiresAt(LocalDateTime now) {
+        return now.plusSeconds(refreshTokenExpiration/1000);
+    }
+
+    private Optional<LoginUser> findLoginUser(String email) {
+        List<LoginUser> users = jdbcTemplate.query(
+                "SELECT id, email, password, name, nickname FROM users WHERE email = ?",
+                (rs, rowNum) -> new LoginUser(rs.getLong("id"), rs.getString("email"), rs.getString("password"),
+                        rs.getString("name"), rs.getString("nickname")),
+                email);
+        return users.stream().findFirst();
     }
 
     // 이메일 , 닉네임 중복 검사
@@ -282,4 +313,15 @@ public class AuthService {
             throw new IllegalArgumentException("이미 존재하는 닉네임입니다.");
         }
     }
-}
\ No newline at end of file
+
+    // 로그인에 필요한 사용자 정보
+    @Getter
+    @RequiredArgsConstructor
+    private static class LoginUser {
+        private final Long id;
+        private final String email;
+        private final String password;
+        private final String name;
+        private final String nickname;
+    }
+}
@@ -0,0 +1,151 @@
+package com.sinsaimdang.masilkkoon.masil.auth.service;
+
+import com.sinsaimdang.masilkkoon.masil.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비밀번호 해시 생성/검증을 전용 스레드 풀에서 수행합니다.<br>
+ * BCrypt 는 한 번에 수십 ms 의 CPU 를 사용하므로 요청 스레드에서 직접 실행하면 로그인이 몰릴 때 다른 요청까지 지연됩니다.
+ * 동시에 해시를 계산하는 스레드 수와 대기열 길이를 제한하고, 가득 차면 기다리지 않고
+ * {@link RejectedExecutionException} 을 던집니다. (503 응답)
+ * 대기 시간과 계산 시간은 작업(encode/matches)별 타이머로 기록됩니다.
+ * 호출한 스레드는 결과를 기다리므로, DB 커넥션을 잡은 상태(트랜잭션 안)에서 호출하지 않아야 합니다.
+ */
+@Component
+@Slf4j
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor passwordHashingExecutor;
+    private final UserRepository userRepository;
+    private final TransactionTemplate rehashTransaction;
+    private final long timeoutMillis;
+    private final MeterRegistry meterRegistry;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor passwordHashingExecutor,
+                          UserRepository userRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${auth.password-hashing.timeout-ms:1000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
+        this.timeoutMillis = timeoutMillis;
+
+        // 로그인 트랜잭션과 무관하게 해시 스레드에서 별도로 커밋
+        this.rehashTransaction = new TransactionTemplate(transactionManager);
+        this.rehashTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @throws RejectedExecutionException 해시 스레드 풀이 가득 찼거나 대기 시간이 초과된 경우
+     */
+    public String encode(String rawPassword) {
+        return execute("encode", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * @throws RejectedExecutionException 해시 스레드 풀이 가득 찼거나 대기 시간이 초과된 경우
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute("matches", () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 비용(cost)이 현재 설정보다 낮으면 새 비용으로 다시 해시하여 저장합니다.<br>
+     * 로그인 응답을 지연시키지 않도록 해시 스레드 풀에서 비동기로 수행하며, 풀이 가득 차면 다음 로그인으로 미룹니다.
+     * 그 사이 비밀번호가 변경되었다면 저장하지 않습니다.
+     * 비밀번호 검증에 성공한 직후에만 호출해야 합니다.
+     */
+    public void upgradeEncodingAsync(Long userId, String rawPassword, String encodedPassword) {
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+
+        try {
+            passwordHashingExecutor.execute(() -> {
+                String upgraded = timed("rehash", () -> passwordEncoder.encode(rawPassword));
+                Integer updated = rehashTransaction.execute(status ->
+                        userRepository.updatePasswordIfUnchanged(userId, encodedPassword, upgraded));
+                log.info("비밀번호 해시 비용 갱신 {} - 사용자 ID: {}", updated != null && updated > 0 ? "완료" : "생략(비밀번호 변경됨)", userId);
+            });
+        } catch (TaskRejectedException e) {
+            log.debug("해시 스레드 풀 포화로 비밀번호 해시 비용 갱신 생략 - 사용자 ID: {}", userId);
+        }
+    }
+
+    private <T> T execute(String operation, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = passwordHashingExecutor.submit(() -> {
+                waitTimer(operation).record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timed(operation, task);
+            });
+        } catch (TaskRejectedException e) {
+            meterRegistry.counter("auth.password.hashing.rejected", "operation", operation).increment();
+            log.warn("비밀번호 해시 스레드 풀 포화 - 요청 거절: {}", operation);
+            throw new RejectedExecutionException("요청이 많아 잠시 후 다시 시도해주세요.", e);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            meterRegistry.counter("auth.password.hashing.rejected", "operation", operation).increment();
+            log.warn("비밀번호 해시 대기 시간 초과 - {} ms: {}", timeoutMillis, operation);
+            throw new RejectedExecutionException("요청이 많아 잠시 후 다시 시도해주세요.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다.", cause);
+        }
+    }
+
+    private <T> T timed(String operation, Callable<T> task) {
+        try {
+            return Timer.builder("auth.password.hashing.compute")
+                    .tag("operation", operation)
+                    .description("비밀번호 해시 계산 시간")
+                    .register(meterRegistry)
+                    .recordCallable(task);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Timer waitTimer(String operation) {
+        return Timer.builder("auth.password.hashing.wait")
+                .tag("operation", operation)
+                .description("비밀번호 해시 스레드 풀 대기 시간")
+                .register(meterRegistry);
+    }
+}
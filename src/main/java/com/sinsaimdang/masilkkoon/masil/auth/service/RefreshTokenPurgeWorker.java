@@ -0,0 +1,113 @@
+package com.sinsaimdang.masilkkoon.masil.auth.service;
+
+import com.sinsaimdang.masilkkoon.masil.auth.repository.RefreshTokenRepository;
+import com.sinsaimdang.masilkkoon.masil.common.lock.SchedulerLease;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 만료된 리프레시 토큰을 주기적으로 삭제하는 작업자<br>
+ * 한 번의 DELETE 로 모두 지우면 테이블을 오래 잠그므로, expires_at 인덱스 순으로 작은 배치씩 각각 별도 트랜잭션으로 삭제하고
+ * 배치 사이에 잠시 쉬어 로그인/토큰 갱신이 밀리지 않도록 합니다.
+ * 여러 서버 중 임대({@link SchedulerLease})를 획득한 한 곳에서만 실행됩니다.
+ * 한 번의 실행은 최대 실행 시간(기본 5초) 안에서만 삭제하고, 남은 만료 토큰은 다음 주기에 이어서 삭제하여
+ * 같은 스케줄러 스레드를 쓰는 다른 예약 작업(조회수 반영 등)을 오래 막지 않습니다.
+ * 삭제 수(auth.refresh.token.purge.deleted)와 남은 만료 토큰 수(auth.refresh.token.purge.backlog)를 메트릭으로 제공합니다.
+ */
+@Component
+@Slf4j
+public class RefreshTokenPurgeWorker {
+
+    private static final String LOCK_NAME = "refresh-token-purge";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SchedulerLease schedulerLease;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final Duration leaseTime;
+    private final Duration maxRunTime;
+    private final Counter deletedCounter;
+    private final AtomicLong backlog = new AtomicLong();
+
+    public RefreshTokenPurgeWorker(RefreshTokenRepository refreshTokenRepository,
+                                   SchedulerLease schedulerLease,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${auth.refresh-token-purge.batch-size:1000}") int batchSize,
+                                   @Value("${auth.refresh-token-purge.pause-ms:100}") long pauseMillis,
+                                   @Value("${auth.refresh-token-purge.lease-seconds:60}") long leaseSeconds,
+                                   @Value("${auth.refresh-token-purge.max-run-ms:5000}") long maxRunMillis) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.schedulerLease = schedulerLease;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.leaseTime = Duration.ofSeconds(leaseSeconds);
+        // 임대가 끝나기 전에 멈춤 (여유분으로 배치 하나와 쉬는 시간은 남김)
+        this.maxRunTime = Duration.ofMillis(Math.min(maxRunMillis, leaseTime.toMillis() / 10 * 9));
+        this.deletedCounter = Counter.builder("auth.refresh.token.purge.deleted")
+                .description("삭제된 만료 리프레시 토큰 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.refresh.token.purge.backlog", backlog, AtomicLong::get)
+                .description("마지막 정리 이후 남은 만료 리프레시 토큰 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.refresh-token-purge.interval-ms:60000}",
+            initialDelayString = "${auth.refresh-token-purge.initial-delay-ms:60000}")
+    public void purge() {
+        if (!schedulerLease.tryAcquire(LOCK_NAME, leaseTime)) {
+            return;
+        }
+
+        try {
+            purgeExpired();
+        } catch (RuntimeException e) {
+            log.error("만료 리프레시 토큰 정리 실패, 다음 주기에 재시도합니다.", e);
+        } finally {
+            schedulerLease.release(LOCK_NAME);
+        }
+    }
+
+    private void purgeExpired() {
+        long deadline = System.nanoTime() + maxRunTime.toNanos();
+        LocalDateTime now = LocalDateTime.now();
+        long total = 0;
+
+        int deleted;
+        do {
+            Integer result = transactionTemplate.execute(status -> refreshTokenRepository.deleteExpiredBatch(now, batchSize));
+            deleted = result != null ? result : 0;
+            total += deleted;
+            deletedCounter.increment(deleted);
+        } while (deleted == batchSize && System.nanoTime() < deadline && pause());
+
+        backlog.set(refreshTokenRepository.countByExpiresAtBefore(now));
+        if (total > 0) {
+            log.info("만료 리프레시 토큰 정리 - 삭제: {}, 남은 만료 토큰: {}", total, backlog.get());
+        }
+    }
+
+    // 반환값: 계속 진행 여부 (인터럽트되면 중단)
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.sinsaimdang.masilkkoon.masil.auth.service;
+
+import com.sinsaimdang.masilkkoon.masil.auth.entity.AccessTokenRevocation;
+import com.sinsaimdang.masilkkoon.masil.auth.repository.AccessTokenRevocationRepository;
+import com.sinsaimdang.masilkkoon.masil.auth.util.JwtClaims;
+import com.sinsaimdang.masilkkoon.masil.auth.util.JwtUtil;
+import com.sinsaimdang.masilkkoon.masil.auth.util.TokenDigest;
+import com.sinsaimdang.masilkkoon.masil.common.cache.AfterCommit;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증이 끝난 Access Token 캐시 (토큰 SHA-256 다이제스트 -> {@link JwtClaims})<br>
+ * 같은 토큰이 반복해서 들어오면 HMAC 검증과 Base64/JSON 디코딩 없이 해시 조회 한 번으로 사용자 정보를 돌려줍니다.
+ * 항목은 토큰 만료 시각이 지나면 사용되지 않고 주기적으로 정리됩니다.
+ * 로그아웃한 사용자는 로그아웃 시각을 DB({@link AccessTokenRevocation})에 기록하여, 그 이전에 발급된 토큰을 캐시 여부와 관계없이 거부합니다.
+ * 다른 서버의 로그아웃은 주기적으로 DB 를 읽어 반영하므로 동기화 주기(기본 5초)만큼 늦게 적용됩니다. (요청마다 DB 를 조회하지 않기 위함)
+ * 최대 크기에 도달하면 새 토큰은 캐시하지 않고 매번 검증합니다. (잠금 없는 조회를 위해 LRU 순서를 유지하지 않음)
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    // 다른 서버와의 시계 차이를 고려해 동기화 구간을 겹쳐 읽음
+    private static final long SYNC_OVERLAP_SECONDS = 30;
+
+    private final JwtUtil jwtUtil;
+    private final AccessTokenRevocationRepository revocationRepository;
+    private final int maxSize;
+    private final long accessTokenExpirationMs;
+    private final ConcurrentHashMap<ByteBuffer, JwtClaims> cache = new ConcurrentHashMap<>();
+    // 이메일 -> 로그아웃 시각 (초 단위, 토큰 발급 시각 iat 와 같은 정밀도) - DB 기록의 이 서버 사본
+    private final ConcurrentHashMap<String, Long> loggedOutAt = new ConcurrentHashMap<>();
+    // 마지막 동기화 시작 시각 (초), 0 이면 아직 동기화 전
+    private volatile long lastSyncedAt;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public VerifiedTokenCache(JwtUtil jwtUtil, AccessTokenRevocationRepository revocationRepository, MeterRegistry meterRegistry,
+                              @Value("${auth.token-cache.max-size:50000}") int maxSize,
+                              @Value("${jwt.access-token-expiration}") long accessTokenExpirationMs) {
+        this.jwtUtil = jwtUtil;
+        this.revocationRepository = revocationRepository;
+        this.maxSize = maxSize;
+        this.accessTokenExpirationMs = accessTokenExpirationMs;
+        this.hitCounter = Counter.builder("auth.token.cache")
+                .tag("result", "hit")
+                .description("검증된 Access Token 캐시 적중 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("auth.token.cache")
+                .tag("result", "miss")
+                .description("검증된 Access Token 캐시 미적중 수 (서명 검증 수행)")
+                .register(meterRegistry);
+        Gauge.builder("auth.token.cache.size", cache, Map::size)
+                .description("검증된 Access Token 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 검증 결과를 돌려주고, 없거나 만료되었으면 토큰을 검증하여 캐시합니다.
+     *
+     * @throws io.jsonwebtoken.JwtException 만료, 형식 오류, 서명 불일치, 로그아웃 이전 발급 등 유효하지 않은 토큰
+     */
+    public JwtClaims verify(String token) {
+        ByteBuffer key = digest(token);
+        JwtClaims cached = cache.get(key);
+        if (cached != null) {
+            if (!isExpired(cached, System.currentTimeMillis())) {
+                hitCounter.increment();
+                return checkNotLoggedOut(cached);
+            }
+            cache.remove(key, cached);
+        }
+
+        missCounter.increment();
+        JwtClaims claims = checkNotLoggedOut(jwtUtil.parseAccessToken(token)); // 유효하지 않으면 예외 - 캐시하지 않음
+        if (cache.size() < maxSize) {
+            cache.put(key, claims);
+        }
+        return claims;
+    }
+
+    /**
+     * 로그아웃 시 해당 사용자에게 지금까지 발급된 Access Token 을 모두 거부<br>
+     * 호출한 쪽 트랜잭션에서 로그아웃 시각을 DB 에 기록하고, 커밋 이후 이 서버에는 바로 반영합니다. (다른 서버는 다음 동기화 때 반영)
+     * 캐시를 훑지 않으며, 캐시에 남은 항목은 조회 시 거부되고 만료 후 정리됩니다.
+     * 토큰 발급 시각이 초 단위이므로 로그아웃과 같은 초에 발급된 토큰은 거부하지 않습니다. (재로그인 직후 토큰 보호)
+     */
+    public void revokeUser(String email) {
+        String normalizedEmail = email.toLowerCase();
+        long revokedBefore = System.currentTimeMillis() / 1000;
+        revocationRepository.upsert(normalizedEmail, revokedBefore);
+        AfterCommit.run(() -> loggedOutAt.merge(normalizedEmail, revokedBefore, Math::max));
+        log.debug("로그아웃 시각 기록 - 이메일: {}", email);
+    }
+
+    /**
+     * 다른 서버에서 기록된 로그아웃 시각을 읽어 반영합니다. (처음에는 아직 만료되지 않은 토큰에 해당하는 기록 전체)
+     */
+    @Scheduled(fixedDelayString = "${auth.token-revocation.sync-interval-ms:5000}")
+    public void syncRevocations() {
+        long now = System.currentTimeMillis() / 1000;
+        long since = lastSyncedAt == 0
+                ? now - accessTokenExpirationMs / 1000
+                : lastSyncedAt - SYNC_OVERLAP_SECONDS;
+        try {
+            for (AccessTokenRevocation revocation : revocationRepository.findByRevokedBeforeGreaterThanEqual(since)) {
+                loggedOutAt.merge(revocation.getEmail(), revocation.getRevokedBefore(), Math::max);
+            }
+            lastSyncedAt = now;
+        } catch (RuntimeException e) {
+            log.error("로그아웃 기록 동기화 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    // 만료된 항목 정리 (만료된 항목은 조회 시에도 사용되지 않으며, 여기서 공간만 회수)
+    @Scheduled(fixedDelayString = "${auth.token-cache.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(claims -> isExpired(claims, now));
+        // 로그아웃 이전에 발급된 토큰이 모두 만료되었으면 로그아웃 기록도 필요 없음
+        long oldestLiveIssuedAt = (now - accessTokenExpirationMs) / 1000;
+        loggedOutAt.values().removeIf(loggedOut -> loggedOut < oldestLiveIssuedAt);
+        try {
+            revocationRepository.deleteByRevokedBeforeLessThan(oldestLiveIssuedAt);
+        } catch (RuntimeException e) {
+            log.error("만료된 로그아웃 기록 삭제 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    private JwtClaims checkNotLoggedOut(JwtClaims claims) {
+        if (claims.getUserEmail() == null) {
+            return claims;
+        }
+        Long loggedOut = loggedOutAt.get(claims.getUserEmail().toLowerCase());
+        if (loggedOut != null && (claims.getIssuedAt() == null || claims.getIssuedAt().getTime() / 1000 < loggedOut)) {
+            throw new JwtException("로그아웃 이전에 발급된 토큰입니다.");
+        }
+        return claims;
+    }
+
+    private static boolean isExpired(JwtClaims claims, long now) {
+        return claims.getExpiration() == null || claims.getExpiration().getTime() <= now;
+    }
+
+    // 토큰 전체에 대한 다이제스트 (서명 부분만 키로 쓰면 본문이 다른 토큰과 구분되지 않으므로 전체를 사용)
+    private static ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(TokenDigest.sha256(token));
+    }
+}
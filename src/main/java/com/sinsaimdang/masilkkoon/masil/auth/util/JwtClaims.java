@@ -0,0 +1,34 @@
+package com.sinsaimdang.masilkkoon.masil.auth.util;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 Access Token 의 사용자 정보 (불변)<br>
+ * 요청마다 토큰을 한 번만 파싱/검증하고, 필요한 값은 모두 이 객체에서 꺼내 씁니다.
+ *
+ * @see JwtUtil#parseAccessToken(String)
+ */
+@Getter
+public final class JwtClaims {
+
+    private final Long userId;
+    private final String userEmail;
+    private final String userName;
+    private final String userNickname;
+    private final String userRole;
+    private final Date issuedAt;
+    private final Date expiration;
+
+    JwtClaims(Claims claims) {
+        this.userId = claims.get("userId", Long.class);
+        this.userEmail = claims.get("userEmail", String.class);
+        this.userName = claims.get("userName", String.class);
+        this.userNickname = claims.get("userNickname", String.class);
+        this.userRole = claims.get("userRole", String.class);
+        this.issuedAt = claims.getIssuedAt();
+        this.expiration = claims.getExpiration();
+    }
+}
@@ -3,6 +3,7 @@ package com.sinsaimdang.masilkkoon.masil.auth.util;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -11,6 +12,7 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
@@ -33,11 +35,23 @@ public class JwtUtil {
     @Value("${jwt.issuer}")
     private String issuer;
 
+    // 서명 키와 파서는 불변/스레드 안전하므로 시작 시 한 번만 만들어 재사용 (요청마다 키 생성, 파서 빌드 비용 제거)
+    private SecretKey signingKey;
+    private JwtParser parser;
+
     // 서명에 사용할 키 생성
     // HMAC SHA-256 -> 입력 길이와 관계 없이 256bit 해시값을 생성하는 알고리즘
     // 변조감지, 데이터 무결성 보장, 비밀 키 로테이션 필요
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder()              // 파서 빌더 생성
+                .setSigningKey(signingKey)              // 서명 검증용 키 설정
+                .build();                               // 파서 객체 생성
+    }
+
     private SecretKey getSigningKey(){
-        return Keys.hmacShaKeyFor(secret.getBytes());
+        return signingKey;
     }
 
     //Access Token 생성
@@ -52,11 +66,18 @@ public class JwtUtil {
     }
 
     // Refresh Token 생성
+    // 같은 사용자에게 같은 시각(초 단위)에 발급해도 토큰이 겹치지 않도록 고유 ID(jti) 포함 - 토큰 다이제스트에 고유 인덱스 사용
     public String generateRefreshToken(String email) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(Claims.ID, UUID.randomUUID().toString());
         return createToken(claims, email, refreshTokenExpiration);
     }
 
+    // 토큰 주체(이메일) 추출 - Refresh Token 용
+    public String extractSubject(String token) {
+        return extractClaim(token, Claims::getSubject);
+    }
+
     // 공통 토큰 생성 메서드
     // Jwts.builder() : JWT 토큰 생성 메서드
     private String createToken(Map<String, Object> claims, String subject, Long expiration) {
@@ -70,6 +91,16 @@ public class JwtUtil {
                 .compact();                                                         // 최종 JWT 문자열 생성
     }
 
+    /**
+     * Access Token 을 한 번 파싱/검증하여 사용자 정보를 모두 꺼냅니다.
+     * 여러 값을 꺼낼 때 extractXxx 를 값마다 호출하면 그때마다 서명 검증과 JSON 디코딩이 반복되므로 이 메서드를 사용합니다.
+     *
+     * @throws JwtException 만료, 형식 오류, 서명 불일치 등 유효하지 않은 토큰
+     */
+    public JwtClaims parseAccessToken(String token) {
+        return new JwtClaims(extractAllClaims(token));
+    }
+
     // 토큰에서 사용자 ID 추출
     public Long extractUserId(String token) {
         return extractClaim(token, claims -> claims.get("userId", Long.class));
@@ -105,9 +136,7 @@ public class JwtUtil {
 
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parserBuilder()                 // 파서 빌더 생성
-                    .setSigningKey(getSigningKey())     // 서명 검증용 키 설정
-                    .build()                            // 파서 객체 생성
+            return parser
                     .parseClaimsJws(token)              // 토큰 파싱 + 검증
                     .getBody();                         // Claim 추출
         } catch (ExpiredJwtException e) {
@@ -0,0 +1,35 @@
+package com.sinsaimdang.masilkkoon.masil.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 원문 대신 저장/조회에 사용하는 고정 길이 다이제스트 (SHA-256, 소문자 16진수 64자 또는 32바이트)<br>
+ * MySQL 의 SHA2(token, 256) 결과와 같은 값입니다.
+ */
+public final class TokenDigest {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private TokenDigest() {
+    }
+
+    public static String sha256Hex(String token) {
+        return HexFormat.of().formatHex(sha256(token));
+    }
+
+    /**
+     * 16진수로 바꾸지 않은 다이제스트 (32바이트, 메모리 캐시 키 등)
+     */
+    public static byte[] sha256(String token) {
+        return SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,28 @@
+package com.sinsaimdang.masilkkoon.masil.common.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행 도우미<br>
+ * 캐시/버퍼처럼 DB 변경과 함께 바뀌어야 하는 메모리 상태는 커밋된 변경만 반영해야 하므로,
+ * 트랜잭션 안에서 호출되면 커밋 이후에 실행하고(롤백되면 실행하지 않음) 트랜잭션 밖이면 바로 실행합니다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
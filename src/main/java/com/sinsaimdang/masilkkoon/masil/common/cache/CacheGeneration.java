@@ -0,0 +1,68 @@
+package com.sinsaimdang.masilkkoon.masil.common.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 캐시 적재와 무효화가 겹칠 때 오래된 값이 남지 않도록 하는 세대 값<br>
+ * 무효화할 때마다 세대를 올리고, 적재 전에 읽은 세대와 저장 직후의 세대가 다르면 저장한 값을 다시 제거합니다.
+ * (적재 중에 커밋된 변경은 저장된 항목에 반영되었거나, 반영되지 않았다면 여기서 제거됨)
+ * 키별로 나누려면 stripes 를 2의 거듭제곱으로 지정하며, 같은 칸의 다른 키가 무효화되면 적재 결과를 한 번 버릴 뿐 잘못된 값이 남지는 않습니다.
+ */
+public final class CacheGeneration {
+
+    private final AtomicLongArray generations;
+
+    public CacheGeneration() {
+        this(1);
+    }
+
+    public CacheGeneration(int stripes) {
+        if (stripes < 1 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("stripes 는 2의 거듭제곱이어야 합니다.");
+        }
+        this.generations = new AtomicLongArray(stripes);
+    }
+
+    /**
+     * 적재 전에 읽어 두는 현재 세대
+     */
+    public long current() {
+        return current(0L);
+    }
+
+    public long current(long key) {
+        return generations.get(stripe(key));
+    }
+
+    /**
+     * 무효화할 때 호출 (캐시 변경 전에 호출해야 함)
+     */
+    public void advance() {
+        advance(0L);
+    }
+
+    public void advance(long key) {
+        generations.incrementAndGet(stripe(key));
+    }
+
+    /**
+     * 적재한 값을 저장하고, 적재 전에 읽은 세대 이후 무효화가 있었으면 다시 제거합니다.
+     * @return 캐시에 남았으면 true
+     */
+    public <K, V> boolean putIfUnchanged(LruCache<K, V> cache, K key, V value, long loadedAt) {
+        return putIfUnchanged(cache, key, value, 0L, loadedAt);
+    }
+
+    public <K, V> boolean putIfUnchanged(LruCache<K, V> cache, K key, V value, long stripeKey, long loadedAt) {
+        cache.put(key, value);
+        if (current(stripeKey) != loadedAt) {
+            cache.remove(key);
+            return false;
+        }
+        return true;
+    }
+
+    private int stripe(long key) {
+        return (int) (key & (generations.length() - 1));
+    }
+}
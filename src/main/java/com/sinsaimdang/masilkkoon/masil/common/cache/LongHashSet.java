@@ -0,0 +1,131 @@
+package com.sinsaimdang.masilkkoon.masil.common.cache;
+
+import java.util.Arrays;
+
+/**
+ * long 값 전용 해시 집합 (오픈 어드레싱, 선형 탐사)<br>
+ * 박싱된 Long 객체와 노드를 만들지 않으므로 HashSet&lt;Long&gt; 보다 메모리를 적게 사용합니다.
+ * 0 은 빈 칸 표시로 사용하므로 저장할 수 없습니다. (DB 자동 증가 ID 저장 용도)
+ * 스레드 안전하지 않으므로 외부에서 동기화해야 합니다.
+ */
+public class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] table;
+    private int mask;
+    private int size;
+
+    public LongHashSet() {
+        this(0);
+    }
+
+    public LongHashSet(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public boolean add(long value) {
+        checkValue(value);
+        if ((size + 1) * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+        int index = indexOf(value);
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        size++;
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return false;
+        }
+        int index = indexOf(value);
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public boolean remove(long value) {
+        if (value == EMPTY) {
+            return false;
+        }
+        int index = indexOf(value);
+        while (table[index] != value) {
+            if (table[index] == EMPTY) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+
+        // 삭제된 칸 뒤의 값들을 당겨 탐사 경로가 끊기지 않도록 함 (tombstone 미사용)
+        int gap = index;
+        int current = (index + 1) & mask;
+        while (table[current] != EMPTY) {
+            int home = indexOf(table[current]);
+            if (((current - home) & mask) >= ((current - gap) & mask)) {
+                table[gap] = table[current];
+                gap = current;
+            }
+            current = (current + 1) & mask;
+        }
+        table[gap] = EMPTY;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldTable = table;
+        allocate(newCapacity);
+        size = 0;
+        for (long value : oldTable) {
+            if (value != EMPTY) {
+                add(value);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.table = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    private int indexOf(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int required = Math.max(MIN_CAPACITY, expectedSize * 2);
+        return Integer.highestOneBit(required - 1) << 1;
+    }
+
+    private static void checkValue(long value) {
+        if (value == EMPTY) {
+            throw new IllegalArgumentException("0 은 저장할 수 없습니다.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LongHashSet" + Arrays.toString(Arrays.stream(table).filter(value -> value != EMPTY).toArray());
+    }
+}
@@ -0,0 +1,116 @@
+package com.sinsaimdang.masilkkoon.masil.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+/**
+ * 크기 제한과 만료 시간(TTL)을 가진 스레드 안전 LRU 캐시<br>
+ * 가장 오래 사용되지 않은 항목부터 제거되며, 만료된 항목은 조회 시점에 제거됩니다.
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class LruCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<K, Entry<V>> map;
+
+    public LruCache(int maxSize, long ttlMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        // accessOrder = true : 조회할 때마다 가장 최근 항목으로 이동
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > LruCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return 캐시된 값, 없거나 만료되었으면 null
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = map.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            map.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        map.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public synchronized void remove(K key) {
+        map.remove(key);
+    }
+
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    /**
+     * 만료되지 않은 항목 중 조건을 만족하는 키가 있는지 확인합니다. 접근 순서는 바뀌지 않습니다.
+     */
+    public synchronized boolean anyKeyMatches(Predicate<? super K> predicate) {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<K, Entry<V>> mapEntry : map.entrySet()) {
+            if (!mapEntry.getValue().isExpired(now) && predicate.test(mapEntry.getKey())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 캐시된 모든 항목의 값을 갱신합니다. 만료 시간은 유지됩니다.<br>
+     * 함수가 null 을 반환하면 해당 항목은 제거됩니다.
+     */
+    public synchronized void updateAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<K, Entry<V>>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, Entry<V>> mapEntry = iterator.next();
+            Entry<V> entry = mapEntry.getValue();
+            if (entry.isExpired(now)) {
+                iterator.remove();
+                continue;
+            }
+            V updated = function.apply(mapEntry.getKey(), entry.value);
+            if (updated == null) {
+                iterator.remove();
+            } else if (updated != entry.value) {
+                mapEntry.setValue(new Entry<>(updated, entry.expiresAt));
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.sinsaimdang.masilkkoon.masil.common.config;
 
 import com.sinsaimdang.masilkkoon.masil.auth.filter.JwtAuthenticationFilter;
-import com.sinsaimdang.masilkkoon.masil.auth.util.JwtUtil;
+import com.sinsaimdang.masilkkoon.masil.auth.service.VerifiedTokenCache;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,8 +13,8 @@ import org.springframework.web.filter.CorsFilter;
 public class FilterConfig {
 
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtUtil jwtUtil) {
-        return new JwtAuthenticationFilter(jwtUtil);
+    public JwtAuthenticationFilter jwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache) {
+        return new JwtAuthenticationFilter(verifiedTokenCache);
     }
 
     @Bean
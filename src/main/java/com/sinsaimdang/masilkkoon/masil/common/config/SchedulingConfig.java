@@ -0,0 +1,11 @@
+package com.sinsaimdang.masilkkoon.masil.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // @Scheduled 작업 활성화 (조회수 버퍼 반영 등)
+    // 스레드 수는 spring.task.scheduling.pool.size 로 설정 - 한 작업이 길어져도 다른 작업이 밀리지 않도록 여러 개 사용
+}
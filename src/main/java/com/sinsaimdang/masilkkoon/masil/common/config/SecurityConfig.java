@@ -1,15 +1,41 @@
 package com.sinsaimdang.masilkkoon.masil.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 public class SecurityConfig {
 
+    /**
+     * 해시 비용(strength)을 올리면 기존 사용자의 해시는 다음 로그인 시 새 비용으로 다시 저장됩니다.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${auth.password-hashing.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * 비밀번호 해시(BCrypt) 전용 스레드 풀<br>
+     * 로그인/회원가입이 몰려도 해시 계산이 요청 스레드와 CPU 를 모두 차지하지 않도록 스레드 수와 대기열을 작게 제한하고,
+     * 대기열이 가득 차면 요청 스레드에서 실행하지 않고 바로 거절합니다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public ThreadPoolTaskExecutor passwordHashingExecutor(@Value("${auth.password-hashing.pool-size:4}") int poolSize,
+                                                          @Value("${auth.password-hashing.queue-capacity:32}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hashing-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package com.sinsaimdang.masilkkoon.masil.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class UploadExecutorConfig {
+
+    /**
+     * 이미지 업로드 전용 스레드 풀<br>
+     * 한 게시글의 이미지들을 동시에 업로드하기 위해 사용하며, 대기열이 가득 차면 요청 스레드에서 직접 업로드하여
+     * 업로드가 몰려도 스레드와 대기열이 무한히 늘어나지 않도록 합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor uploadExecutor(@Value("${upload.executor.core-size:8}") int coreSize,
+                                                 @Value("${upload.executor.max-size:16}") int maxSize,
+                                                 @Value("${upload.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 변형 이미지(썸네일 등) 생성 전용 스레드 풀<br>
+     * 이미지 디코딩/리사이즈는 CPU 와 메모리를 많이 쓰므로 스레드 수를 작게 유지하고,
+     * 대기열이 가득 차면 작업을 거절하여(요청 스레드에서 실행하지 않음) 응답 지연으로 번지지 않도록 합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor imageVariantExecutor(@Value("${image.variant.executor.core-size:2}") int coreSize,
+                                                       @Value("${image.variant.executor.max-size:2}") int maxSize,
+                                                       @Value("${image.variant.executor.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
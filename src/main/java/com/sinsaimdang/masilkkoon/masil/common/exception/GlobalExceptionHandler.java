@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 @Slf4j
@@ -24,6 +25,12 @@ public class GlobalExceptionHandler {
         return ApiResponseUtil.badRequest(e.getMessage());
     }
 
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Map<String, Object>> handleRejectedExecutionException(RejectedExecutionException e) {
+        log.warn("작업 거절 (과부하): {}", e.getMessage());
+        return ApiResponseUtil.serviceUnavailable("요청이 많아 잠시 후 다시 시도해주세요.");
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGeneralException(Exception e) {
         log.error("처리되지 않은 예외 발생", e);
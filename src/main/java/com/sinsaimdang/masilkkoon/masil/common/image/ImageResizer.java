@@ -0,0 +1,77 @@
+package com.sinsaimdang.masilkkoon.masil.common.image;
+
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 이미지 크기 변환기 (JDK ImageIO 사용)<br>
+ * 긴 변을 기준으로 비율을 유지하여 축소하고, 웹 전송에 알맞은 품질의 JPEG 로 다시 인코딩합니다.
+ */
+@Component
+public class ImageResizer {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+    private static final float JPEG_QUALITY = 0.85f;
+
+    /**
+     * @throws IllegalArgumentException 이미지로 읽을 수 없는 파일인 경우
+     */
+    public BufferedImage read(InputStream inputStream) throws IOException {
+        BufferedImage image = ImageIO.read(inputStream);
+        if (image == null) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+        }
+        return image;
+    }
+
+    /**
+     * @return 긴 변이 maxEdge 이하가 되도록 축소한 JPEG 바이트
+     */
+    public byte[] resizeToJpeg(BufferedImage source, int maxEdge) throws IOException {
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        // JPEG 는 투명도를 지원하지 않으므로 흰 배경 위에 그림
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return encodeJpeg(resized);
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,25 @@
+package com.sinsaimdang.masilkkoon.masil.common.image;
+
+// 업로드된 원본 이미지로부터 생성하는 고정 크기 변형 이미지 종류
+// maxEdge : 긴 변 기준 최대 픽셀 (원본이 더 작으면 확대하지 않음)
+public enum ImageVariant {
+    THUMBNAIL("thumb", 200),  // 프로필 아바타, 작은 목록 썸네일
+    CARD("card", 640),        // 피드 카드
+    WEB("web", 1600);         // 상세 화면용 웹 최적화 이미지
+
+    private final String suffix;
+    private final int maxEdge;
+
+    ImageVariant(String suffix, int maxEdge) {
+        this.suffix = suffix;
+        this.maxEdge = maxEdge;
+    }
+
+    public String getSuffix() {
+        return suffix;
+    }
+
+    public int getMaxEdge() {
+        return maxEdge;
+    }
+}
@@ -0,0 +1,82 @@
+package com.sinsaimdang.masilkkoon.masil.common.image;
+
+import com.sinsaimdang.masilkkoon.masil.common.s3.Uploader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 변형 이미지(썸네일/카드/웹) 생성 작업을 백그라운드 스레드 풀에서 처리합니다.<br>
+ * 원본을 내려받아 변형 이미지를 만들어 업로드한 뒤, 호출한 쪽이 넘겨준 콜백으로 URL 을 저장합니다.
+ * 대기열이 가득 차면 작업을 받지 않으며(요청 스레드를 막지 않음), 이 경우 클라이언트는 원본 URL 을 그대로 사용합니다.
+ */
+@Component
+@Slf4j
+public class ImageVariantProcessor {
+
+    private final Uploader uploader;
+    private final ImageResizer imageResizer;
+    private final ThreadPoolTaskExecutor imageVariantExecutor;
+
+    public ImageVariantProcessor(Uploader uploader, ImageResizer imageResizer,
+                                 @Qualifier("imageVariantExecutor") ThreadPoolTaskExecutor imageVariantExecutor) {
+        this.uploader = uploader;
+        this.imageResizer = imageResizer;
+        this.imageVariantExecutor = imageVariantExecutor;
+    }
+
+    /**
+     * 변형 이미지 생성을 예약합니다.
+     * @param sourceUrl 원본 이미지 URL
+     * @param variants 생성할 변형 종류
+     * @param dirName 변형 이미지를 저장할 디렉토리
+     * @param store 생성된 URL 을 저장하는 콜백, 원본이 더 이상 사용되지 않아 저장하지 못했으면 false (생성된 파일은 삭제됨)
+     */
+    public void submit(String sourceUrl, Set<ImageVariant> variants, String dirName,
+                       Predicate<Map<ImageVariant, String>> store) {
+        try {
+            imageVariantExecutor.execute(() -> process(sourceUrl, variants, dirName, store));
+        } catch (TaskRejectedException e) {
+            log.warn("변형 이미지 작업 대기열 초과, 원본 이미지를 그대로 사용 - URL: {}", sourceUrl);
+        }
+    }
+
+    private void process(String sourceUrl, Set<ImageVariant> variants, String dirName,
+                         Predicate<Map<ImageVariant, String>> store) {
+        Map<ImageVariant, String> variantUrls = new EnumMap<>(ImageVariant.class);
+        try {
+            BufferedImage source;
+            try (InputStream inputStream = uploader.download(sourceUrl)) {
+                source = imageResizer.read(inputStream);
+            }
+
+            for (ImageVariant variant : variants) {
+                byte[] bytes = imageResizer.resizeToJpeg(source, variant.getMaxEdge());
+                String url = uploader.upload(new ByteArrayInputStream(bytes), bytes.length, ImageResizer.CONTENT_TYPE,
+                        variant.getSuffix() + ".jpg", dirName);
+                variantUrls.put(variant, url);
+            }
+
+            if (!store.test(variantUrls)) {
+                log.info("원본 이미지가 더 이상 사용되지 않아 변형 이미지 삭제 - URL: {}", sourceUrl);
+                variantUrls.values().forEach(uploader::delete);
+                return;
+            }
+            log.info("변형 이미지 생성 완료 - URL: {}, 변형: {}", sourceUrl, variantUrls.keySet());
+        } catch (IOException | RuntimeException e) {
+            log.error("변형 이미지 생성 실패 - URL: {}", sourceUrl, e);
+            variantUrls.values().forEach(uploader::delete);
+        }
+    }
+}
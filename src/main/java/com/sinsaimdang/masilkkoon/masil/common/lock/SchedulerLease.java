@@ -0,0 +1,64 @@
+package com.sinsaimdang.masilkkoon.masil.common.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DB 임대 행({@link SchedulerLock})을 이용한 예약 작업 분산 잠금<br>
+ * 여러 서버에서 같은 @Scheduled 작업이 동시에 돌더라도 임대를 획득한 한 서버만 실행하도록 합니다.
+ * 획득/해제는 각각 짧은 별도 트랜잭션으로 즉시 커밋되어, 작업 중 행 잠금을 유지하지 않습니다.
+ * 임대 시간 안에 작업을 끝내야 하며, 지나면 다른 서버가 임대를 가져갈 수 있습니다.
+ */
+@Component
+@Slf4j
+public class SchedulerLease {
+
+    private static final LocalDateTime EXPIRED = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final TransactionTemplate lockTransaction;
+    private final String owner = hostName() + ":" + UUID.randomUUID();
+
+    public SchedulerLease(SchedulerLockRepository schedulerLockRepository,
+                          PlatformTransactionManager transactionManager) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.lockTransaction = new TransactionTemplate(transactionManager);
+        this.lockTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return 임대를 획득했으면 true, 다른 서버가 보유 중이면 false
+     */
+    public boolean tryAcquire(String lockName, Duration leaseTime) {
+        Integer acquired = lockTransaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            schedulerLockRepository.insertIfAbsent(lockName, EXPIRED);
+            return schedulerLockRepository.acquire(lockName, owner, now.plus(leaseTime), now);
+        });
+        boolean result = acquired != null && acquired > 0;
+        log.debug("예약 작업 임대 {} - {}", result ? "획득" : "실패(다른 서버 실행 중)", lockName);
+        return result;
+    }
+
+    public void release(String lockName) {
+        lockTransaction.executeWithoutResult(status ->
+                schedulerLockRepository.release(lockName, owner, LocalDateTime.now()));
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.sinsaimdang.masilkkoon.masil.common.lock;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 서버 중 한 곳에서만 실행해야 하는 예약 작업의 임대(lease) 행<br>
+ * locked_until 이 지난 행만 조건부 UPDATE 로 가져갈 수 있으며, 작업이 비정상 종료되어도 임대 시간이 지나면 다른 서버가 가져갑니다.
+ * 사용은 {@link SchedulerLease} 를 통해서만 합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "scheduler_locks")
+@Entity
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "lock_name", length = 64)
+    private String lockName;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+}
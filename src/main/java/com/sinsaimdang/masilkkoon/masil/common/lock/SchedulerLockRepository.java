@@ -0,0 +1,31 @@
+package com.sinsaimdang.masilkkoon.masil.common.lock;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 잠금 행이 없으면 만료된 상태로 생성 (이미 있으면 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scheduler_locks (lock_name, locked_until, locked_by) VALUES (:lockName, :lockedUntil, '')",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("lockName") String lockName, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    // 임대가 만료된 경우에만 가져감 - 반환값이 1 이면 획득, 0 이면 다른 서버가 보유 중
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :lockedUntil, l.lockedBy = :owner " +
+            "WHERE l.lockName = :lockName AND l.lockedUntil <= :now")
+    int acquire(@Param("lockName") String lockName,
+                @Param("owner") String owner,
+                @Param("lockedUntil") LocalDateTime lockedUntil,
+                @Param("now") LocalDateTime now);
+
+    // 보유 중인 임대만 즉시 만료
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :now WHERE l.lockName = :lockName AND l.lockedBy = :owner")
+    int release(@Param("lockName") String lockName, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
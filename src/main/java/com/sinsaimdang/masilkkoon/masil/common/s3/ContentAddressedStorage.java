@@ -0,0 +1,162 @@
+package com.sinsaimdang.masilkkoon.masil.common.s3;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 내용 해시(SHA-256) 기반 파일 저장소<br>
+ * 파일을 "디렉토리/해시.확장자" 경로에 저장하고 {@link StoredFile} 로 참조 수를 관리합니다.
+ * 같은 내용의 파일이 이미 업로드 완료되었으면 원격 저장소로 전송하지 않고 참조 수만 늘리며,
+ * 아직 업로드 중이거나 이전 업로드가 실패한 파일이면 직접 업로드한 뒤 완료로 표시합니다. (같은 경로에 같은 내용이므로 중복 업로드해도 무방)
+ * 마지막 참조가 해제될 때만 실제 파일 삭제를 예약합니다.
+ * 참조 수로 관리하지 않는 파일(기존 UUID 경로 파일, 변형 이미지 등)은 해제 시 바로 삭제를 예약합니다.
+ * 삭제는 호출한 쪽 트랜잭션에서 {@link FileDeletion} 아웃박스에 기록만 하고, {@link FileDeletionWorker} 가 커밋 이후 처리합니다.
+ */
+@Component
+@Slf4j
+public class ContentAddressedStorage {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Uploader uploader;
+    private final StoredFileRepository storedFileRepository;
+    private final FileDeletionRepository fileDeletionRepository;
+    private final TransactionTemplate storeTransaction;
+    private final TransactionTemplate releaseTransaction;
+
+    public ContentAddressedStorage(Uploader uploader, StoredFileRepository storedFileRepository,
+                                   FileDeletionRepository fileDeletionRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.uploader = uploader;
+        this.storedFileRepository = storedFileRepository;
+        this.fileDeletionRepository = fileDeletionRepository;
+
+        // 저장 시 참조는 호출한 쪽 트랜잭션과 무관하게 업로드 전에 커밋 (삭제 작업자가 업로드 중인 파일을 지우지 않도록)
+        this.storeTransaction = new TransactionTemplate(transactionManager);
+        this.storeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // 해제는 호출한 쪽 트랜잭션에 참여 (롤백되면 참조 수와 삭제 예약도 함께 취소), 트랜잭션이 없으면 새로 시작
+        this.releaseTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 파일을 저장하고 참조를 하나 추가합니다. 같은 내용이 이미 업로드 완료되어 있으면 업로드하지 않습니다.<br>
+     * 업로드할 경로가 내용 해시이므로 파일을 두 번 읽습니다. (해시 계산 한 번, 업로드 한 번)
+     * 두 번 모두 서블릿 컨테이너가 메모리/로컬 디스크에 받아 둔 요청 파일을 읽는 것이며, 이 비용으로 같은 내용의 파일은 원격 전송을 생략합니다.
+     * 업로드하면서 해시를 계산하려면 임시 경로에 올린 뒤 원격 저장소에서 복사/삭제해야 하므로 모든 업로드의 원격 요청이 늘어납니다.
+     * @return 저장된 파일 URL
+     */
+    public String store(MultipartFile file, String dirName) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+        }
+
+        // 첫 번째 읽기 - 원격 저장소 경로를 정하려면 해시가 먼저 필요함
+        String fileKey = dirName + "/" + sha256Hex(file) + extensionOf(file.getOriginalFilename());
+        String fileUrl = uploader.urlOf(fileKey);
+
+        // 참조를 업로드보다 먼저 커밋 - 삭제 작업자는 참조가 있는 URL 을 삭제하지 않고,
+        // 작업자가 삭제 중인 URL 이면 삭제가 끝날 때까지 여기서 대기함 (REPEATABLE READ 의 갭 잠금)
+        Boolean uploaded = storeTransaction.execute(status -> {
+            storedFileRepository.insertOrIncrementRefCount(fileKey, fileUrl);
+            return storedFileRepository.findUploadedByFileKey(fileKey).orElse(false);
+        });
+        if (Boolean.TRUE.equals(uploaded)) {
+            log.info("같은 내용의 파일이 이미 저장되어 있어 업로드 생략 - 경로: {}", fileKey);
+            return fileUrl;
+        }
+
+        // 두 번째 읽기 - 새 파일이거나, 같은 내용의 다른 업로드가 아직 끝나지 않았거나 실패한 경우 완료 여부와 관계없이 직접 업로드
+        try (InputStream inputStream = file.getInputStream()) {
+            uploader.uploadToPath(inputStream, file.getSize(), file.getContentType(), fileKey);
+            storeTransaction.executeWithoutResult(status -> storedFileRepository.markUploaded(fileKey));
+        } catch (IOException | RuntimeException e) {
+            // 호출한 쪽 트랜잭션은 이 예외로 롤백되므로 참조 해제는 별도 트랜잭션에서 커밋
+            releaseAll(List.of(fileUrl), storeTransaction);
+            throw e;
+        }
+        return fileUrl;
+    }
+
+    /**
+     * 이미 저장된 파일에 참조를 하나 추가합니다. (같은 파일을 사용하는 곳이 늘어난 경우)
+     * 호출한 쪽 트랜잭션에 참여하므로 해당 트랜잭션이 롤백되면 함께 취소됩니다.
+     */
+    public void retain(String fileUrl) {
+        if (storedFileRepository.incrementRefCountByFileUrl(fileUrl) == 0) {
+            log.debug("참조 수로 관리하지 않는 파일 - URL: {}", fileUrl);
+        }
+    }
+
+    /**
+     * 각 URL 의 참조를 하나씩 해제하고, 마지막 참조였던 파일의 삭제를 예약합니다. (같은 URL 이 여러 번 있으면 그만큼 해제)
+     */
+    public void releaseAll(Collection<String> fileUrls) {
+        releaseAll(fileUrls, releaseTransaction);
+    }
+
+    private void releaseAll(Collection<String> fileUrls, TransactionTemplate transaction) {
+        List<FileDeletion> deletions = new ArrayList<>();
+        transaction.executeWithoutResult(status -> {
+            for (String fileUrl : fileUrls) {
+                if (fileUrl == null || fileUrl.isEmpty()) {
+                    continue;
+                }
+                // 갱신된 행이 없으면 참조 수로 관리하지 않는 파일
+                if (storedFileRepository.decrementRefCountByFileUrl(fileUrl) == 0
+                        || storedFileRepository.deleteUnreferenced(fileUrl) == 1) {
+                    deletions.add(new FileDeletion(fileUrl));
+                }
+            }
+            fileDeletionRepository.saveAll(deletions);
+        });
+        if (!deletions.isEmpty()) {
+            log.info("파일 삭제 예약 - {}개", deletions.size());
+        }
+    }
+
+    private static String sha256Hex(MultipartFile file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+
+        byte[] buffer = new byte[8192];
+        try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+            while (inputStream.read(buffer) != -1) {
+                // DigestInputStream 이 읽는 동안 해시를 갱신함
+            }
+        }
+        return HEX.formatHex(digest.digest());
+    }
+
+    // 원본 파일명의 확장자 (영문/숫자로만 된 짧은 확장자만 사용, 그 외에는 생략)
+    private static String extensionOf(String originalFilename) {
+        if (originalFilename == null) {
+            return "";
+        }
+        int dot = originalFilename.lastIndexOf('.');
+        if (dot < 0) {
+            return "";
+        }
+        String extension = originalFilename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return extension.matches("[a-z0-9]{1,10}") ? "." + extension : "";
+    }
+}
@@ -0,0 +1,52 @@
+package com.sinsaimdang.masilkkoon.masil.common.s3;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 예정 파일 (트랜잭션 아웃박스)<br>
+ * 파일 참조 해제와 같은 트랜잭션에서 기록되고, {@link FileDeletionWorker} 가 커밋된 항목만 모아 실제로 삭제합니다.
+ * 트랜잭션이 롤백되면 기록도 함께 사라지므로 파일이 남습니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "file_deletion_outbox", indexes = {
+        @Index(name = "idx_file_deletion_outbox_next_attempt_at", columnList = "next_attempt_at")
+})
+@Entity
+public class FileDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "file_deletion_id")
+    private Long id;
+
+    @Column(name = "file_url", nullable = false, length = 1000)
+    private String fileUrl;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public FileDeletion(String fileUrl) {
+        LocalDateTime now = LocalDateTime.now();
+        this.fileUrl = fileUrl;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    public void scheduleRetry(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -0,0 +1,19 @@
+package com.sinsaimdang.masilkkoon.masil.common.s3;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface FileDeletionRepository extends JpaRepository<FileDeletion, Long> {
+
+    // 다른 인스턴스의 작업자가 잠근 행은 건너뜀 (여러 서버에서 동시에 처리해도 같은 항목을 중복 처리하지 않음)
+    @Query(value = "SELECT * FROM file_deletion_outbox WHERE next_attempt_at <= :now " +
+            "ORDER BY file_deletion_id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<FileDeletion> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,109 @@
+package com.sinsaimdang.masilkkoon.masil.common.s3;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 삭제 예정 파일 아웃박스({@link FileDeletion})를 주기적으로 비우는 작업자<br>
+ * 커밋된 항목을 배치로 잠가 가져온 뒤 저장소의 일괄 삭제(S3 DeleteObjects)로 한 번에 삭제합니다.
+ * 그 사이 같은 URL 이 다시 참조되었으면(같은 내용 재업로드) 삭제하지 않고 항목만 제거합니다.
+ * 원격 삭제가 끝날 때까지 배치의 URL 을 잠가 두어야 같은 내용의 재업로드가 삭제되지 않으므로,
+ * 잠금(갭 잠금 포함)이 다른 파일 저장을 오래 막지 않도록 배치를 작게 나눠 트랜잭션마다 짧게 처리합니다.
+ * 삭제에 실패한 항목은 지수적으로 늘어나는 간격으로 재시도하고, 최대 횟수를 넘기면 로그를 남기고 포기합니다.
+ */
+@Component
+@Slf4j
+public class FileDeletionWorker {
+
+    private static final Duration MAX_RETRY_DELAY = Duration.ofHours(1);
+
+    private final Uploader uploader;
+    private final FileDeletionRepository fileDeletionRepository;
+    private final StoredFileRepository storedFileRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBaseDelay;
+
+    public FileDeletionWorker(Uploader uploader,
+                              FileDeletionRepository fileDeletionRepository,
+                              StoredFileRepository storedFileRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${storage.deletion.batch-size:20}") int batchSize,
+                              @Value("${storage.deletion.max-attempts:10}") int maxAttempts,
+                              @Value("${storage.deletion.retry-base-seconds:30}") long retryBaseSeconds) {
+        this.uploader = uploader;
+        this.fileDeletionRepository = fileDeletionRepository;
+        this.storedFileRepository = storedFileRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseDelay = Duration.ofSeconds(retryBaseSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${storage.deletion.interval-ms:10000}")
+    public void drain() {
+        try {
+            Integer processed;
+            do {
+                processed = transactionTemplate.execute(status -> drainBatch());
+            } while (processed != null && processed == batchSize);
+        } catch (RuntimeException e) {
+            log.error("파일 삭제 아웃박스 처리 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    // 반환값: 처리한 항목 수 (batchSize 와 같으면 남은 항목이 더 있을 수 있음)
+    private int drainBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<FileDeletion> dueDeletions = fileDeletionRepository.lockDue(now, batchSize);
+        if (dueDeletions.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> fileUrls = dueDeletions.stream()
+                .map(FileDeletion::getFileUrl)
+                .collect(Collectors.toSet());
+        // 다시 참조된 파일은 삭제하지 않음 (이 트랜잭션이 끝날 때까지 같은 URL 의 새 참조 추가도 대기)
+        // 잠금을 잡은 채 원격 삭제를 기다리므로 배치 크기가 곧 저장 요청이 대기할 수 있는 범위와 시간
+        Set<String> referencedUrls = new HashSet<>(storedFileRepository.lockReferencedUrls(fileUrls));
+        List<String> urlsToDelete = fileUrls.stream()
+                .filter(fileUrl -> !referencedUrls.contains(fileUrl))
+                .collect(Collectors.toList());
+        Set<String> failedUrls = urlsToDelete.isEmpty() ? Set.of() : uploader.deleteAll(urlsToDelete);
+
+        List<FileDeletion> completed = new ArrayList<>();
+        for (FileDeletion deletion : dueDeletions) {
+            if (!failedUrls.contains(deletion.getFileUrl())) {
+                completed.add(deletion);
+            } else if (deletion.getAttempts() + 1 >= maxAttempts) {
+                log.error("파일 삭제 재시도 횟수 초과, 삭제를 포기합니다 - URL: {}", deletion.getFileUrl());
+                completed.add(deletion);
+            } else {
+                deletion.scheduleRetry(now.plus(retryDelay(deletion.getAttempts())));
+            }
+        }
+        fileDeletionRepository.deleteAllInBatch(completed);
+
+        log.info("파일 삭제 아웃박스 처리 - 삭제: {}, 재참조로 생략: {}, 실패: {}",
+                urlsToDelete.size() - failedUrls.size(), referencedUrls.size(), failedUrls.size());
+        return dueDeletions.size();
+    }
+
+    private Duration retryDelay(int attempts) {
+        Duration delay = retryBaseDelay.multipliedBy(1L << Math.min(attempts, 16));
+        return delay.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay;
+    }
+}
@@ -7,6 +7,12 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -38,6 +44,46 @@ public class LocalUploader implements Uploader {
         return dest.getAbsolutePath().replace("\\", "/");
     }
 
+    @Override
+    public String upload(InputStream inputStream, long contentLength, String contentType,
+                         String originalFilename, String dirName) throws IOException {
+        File directory = new File(uploadDir + dirName);
+        if (!directory.exists()) {
+            directory.mkdirs(); // 폴더가 없으면 생성
+        }
+
+        String fileName = UUID.randomUUID() + "_" + originalFilename;
+        File dest = new File(directory, fileName);
+        Files.copy(inputStream, dest.toPath());
+        log.info("로컬에 파일 업로드 완료: {}", dest.getAbsolutePath());
+
+        return dest.getAbsolutePath().replace("\\", "/");
+    }
+
+    @Override
+    public String uploadToPath(InputStream inputStream, long contentLength, String contentType, String path) throws IOException {
+        File dest = new File(uploadDir + path);
+        File directory = dest.getParentFile();
+        if (!directory.exists()) {
+            directory.mkdirs(); // 폴더가 없으면 생성
+        }
+
+        Files.copy(inputStream, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        log.info("로컬에 파일 업로드 완료: {}", dest.getAbsolutePath());
+
+        return urlOf(path);
+    }
+
+    @Override
+    public String urlOf(String path) {
+        return new File(uploadDir + path).getAbsolutePath().replace("\\", "/");
+    }
+
+    @Override
+    public InputStream download(String filePath) throws IOException {
+        return Files.newInputStream(new File(filePath).toPath());
+    }
+
     @Override
     public void delete(String filePath) { // 파라미터명을 fileUrl -> filePath로 변경하여 명확화
         if (filePath == null || filePath.isEmpty()) {
@@ -59,4 +105,20 @@ public class LocalUploader implements Uploader {
             log.error("로컬 파일 삭제 중 오류 발생. 경로: {}", filePath, e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public Set<String> deleteAll(Collection<String> filePaths) {
+        Set<String> failedPaths = new HashSet<>();
+        for (String filePath : filePaths) {
+            if (filePath == null || filePath.isEmpty()) {
+                continue;
+            }
+            File file = new File(filePath);
+            if (file.exists() && !file.delete()) {
+                log.warn("로컬 파일 삭제 실패: {}", filePath);
+                failedPaths.add(filePath);
+            }
+        }
+        return failedPaths;
+    }
+}
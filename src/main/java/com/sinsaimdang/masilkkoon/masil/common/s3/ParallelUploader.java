@@ -0,0 +1,87 @@
+package com.sinsaimdang.masilkkoon.masil.common.s3;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 파일을 업로드 전용 스레드 풀에서 동시에 업로드합니다.<br>
+ * 하나라도 실패하면 이미 업로드된 파일을 삭제한 뒤 예외를 다시 던지므로, 호출한 쪽은 전부 성공했거나 아무것도 남지 않은 상태만 다루면 됩니다.
+ * DB 트랜잭션 밖에서 호출하여 업로드 동안 커넥션을 점유하지 않도록 합니다.
+ * 파일은 {@link ContentAddressedStorage} 로 저장되므로, 이미 저장된 내용과 같은 파일은 업로드되지 않고 참조만 추가됩니다.
+ */
+@Component
+@Slf4j
+public class ParallelUploader {
+
+    private final ContentAddressedStorage contentAddressedStorage;
+    private final ThreadPoolTaskExecutor uploadExecutor;
+
+    public ParallelUploader(ContentAddressedStorage contentAddressedStorage,
+                            @Qualifier("uploadExecutor") ThreadPoolTaskExecutor uploadExecutor) {
+        this.contentAddressedStorage = contentAddressedStorage;
+        this.uploadExecutor = uploadExecutor;
+    }
+
+    /**
+     * @return 업로드된 파일 URL (files 와 같은 순서)
+     */
+    public List<String> uploadAll(List<MultipartFile> files, String dirName) throws IOException {
+        List<CompletableFuture<String>> futures = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> upload(file, dirName), uploadExecutor))
+                .collect(Collectors.toList());
+
+        try {
+            // allOf 는 일부가 실패해도 모든 업로드가 끝난 뒤에 완료됨
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            List<String> uploadedUrls = futures.stream()
+                    .filter(future -> !future.isCompletedExceptionally())
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+            log.warn("파일 업로드 실패 - 업로드된 {}개 파일 삭제", uploadedUrls.size());
+            deleteAll(uploadedUrls);
+            throw unwrap(e);
+        }
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 업로드된 파일의 참조를 해제합니다. (DB 저장 실패 시 보상 처리 등, 마지막 참조였으면 파일 삭제)
+     */
+    public void deleteAll(Collection<String> fileUrls) {
+        contentAddressedStorage.releaseAll(fileUrls);
+    }
+
+    private String upload(MultipartFile file, String dirName) {
+        try {
+            return contentAddressedStorage.store(file, dirName);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static IOException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof UncheckedIOException) {
+            return ((UncheckedIOException) cause).getCause();
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        return new IOException("파일 업로드에 실패했습니다.", cause);
+    }
+}
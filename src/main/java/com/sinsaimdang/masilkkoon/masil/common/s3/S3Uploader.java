@@ -1,86 +1,136 @@
 package com.sinsaimdang.masilkkoon.masil.common.s3;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
-import lombok.RequiredArgsConstructor;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.Optional;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+/**
+ * S3 업로더<br>
+ * 요청 본문의 InputStream 을 그대로 S3 로 전송하므로 파일 전체를 힙에 올리거나 임시 파일로 복사하지 않습니다.
+ * 크기가 임계값 이상인 파일은 TransferManager 가 멀티파트 업로드로 나눠 전송합니다.
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Service
 @Profile("prod") // prod 프로필에서만 활동
 public class S3Uploader implements Uploader {
 
+    private static final int MAX_KEYS_PER_DELETE = 1000;
+
     private final AmazonS3 amazonS3Client;
+    private final TransferManager transferManager;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    public S3Uploader(AmazonS3 amazonS3Client,
+                      @Value("${cloud.aws.s3.multipart-threshold-bytes:16777216}") long multipartThreshold,
+                      @Value("${cloud.aws.s3.multipart-part-size-bytes:8388608}") long multipartPartSize) {
+        this.amazonS3Client = amazonS3Client;
+        this.transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withMultipartUploadThreshold(multipartThreshold)
+                .withMinimumUploadPartSize(multipartPartSize)
+                .withShutDownThreadPools(true)
+                .build();
+    }
+
     @Override
     public String upload(MultipartFile multipartFile, String dirName) throws IOException {
-        File uploadFile = convert(multipartFile)
-                .orElseThrow(() -> new IllegalArgumentException("MultipartFile -> File 전환 실패"));
-        return upload(uploadFile, dirName);
+        if (multipartFile == null || multipartFile.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+        }
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            return upload(inputStream, multipartFile.getSize(), multipartFile.getContentType(),
+                    multipartFile.getOriginalFilename(), dirName);
+        }
     }
 
-    private String upload(File uploadFile, String dirName) {
-        String fileName = dirName + "/" + UUID.randomUUID() + "_" + uploadFile.getName();
-        String uploadImageUrl = putS3(uploadFile, fileName);
+    @Override
+    public String upload(InputStream inputStream, long contentLength, String contentType,
+                         String originalFilename, String dirName) throws IOException {
+        return uploadToPath(inputStream, contentLength, contentType, dirName + "/" + UUID.randomUUID() + "_" + originalFilename);
+    }
 
-        removeNewFile(uploadFile);  // 로컬에 생성된 임시 파일 삭제
+    @Override
+    public String uploadToPath(InputStream inputStream, long contentLength, String contentType, String fileName) throws IOException {
+        // 길이를 알려주지 않으면 SDK 가 길이를 구하기 위해 스트림 전체를 메모리에 버퍼링함
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        if (contentType != null) {
+            metadata.setContentType(contentType);
+        }
+
+        PutObjectRequest request = new PutObjectRequest(bucket, fileName, inputStream, metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead);
+        try {
+            transferManager.upload(request).waitForUploadResult();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("S3 업로드가 중단되었습니다: " + fileName, e);
+        }
 
-        return uploadImageUrl;      // 업로드된 파일의 S3 URL 주소 반환
+        return urlOf(fileName); // 업로드된 파일의 S3 URL 주소 반환
     }
 
-    private String putS3(File uploadFile, String fileName) {
-        amazonS3Client.putObject(
-                new PutObjectRequest(bucket, fileName, uploadFile)
-                        .withCannedAcl(CannedAccessControlList.PublicRead)
-        );
-        return amazonS3Client.getUrl(bucket, fileName).toString();
+    @Override
+    public String urlOf(String path) {
+        return amazonS3Client.getUrl(bucket, path).toString();
     }
 
-    private void removeNewFile(File targetFile) {
-        if (targetFile.delete()) {
-            log.info("임시 파일이 삭제되었습니다.");
-        } else {
-            log.info("임시 파일이 삭제되지 못했습니다.");
+    @Override
+    public InputStream download(String fileUrl) throws IOException {
+        try {
+            return amazonS3Client.getObject(bucket, toKey(fileUrl)).getObjectContent();
+        } catch (AmazonClientException e) {
+            throw new IOException("S3 파일 다운로드 실패: " + fileUrl, e);
         }
     }
 
-    private Optional<File> convert(MultipartFile file) throws IOException {
-        File convertFile = new File(System.getProperty("java.io.tmpdir") + "/" + file.getOriginalFilename());
-        if (convertFile.createNewFile()) {
-            try (FileOutputStream fos = new FileOutputStream(convertFile)) {
-                fos.write(file.getBytes());
-            }
-            return Optional.of(convertFile);
-        }
-        return Optional.empty();
+    // S3 버킷 URL을 기반으로 파일 키(경로+이름)를 추출합니다.
+    // 예: https://버킷이름.s3.ap-northeast-2.amazonaws.com/profile-images/uuid_파일명.jpg
+    // -> profile-images/uuid_파일명.jpg
+    private static String toKey(String fileUrl) {
+        return fileUrl.substring(fileUrl.indexOf(".com/") + 5);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 전송용 스레드 풀만 정리하고 AmazonS3 클라이언트는 다른 빈에서 계속 사용하므로 닫지 않음
+        transferManager.shutdownNow(false);
     }
 
     @Override
     public void delete(String fileUrl) {
-        if (fileUrl == null || fileUrl.isEmpty() || fileUrl.contains("default_profile.png")) {
+        if (isNotDeletable(fileUrl)) {
             log.info("삭제할 파일 URL이 없거나 기본 이미지입니다.");
             return;
         }
         try {
             // 1. S3 버킷 URL을 기반으로 파일 키(경로+이름)를 추출합니다.
-            // 예: https://버킷이름.s3.ap-northeast-2.amazonaws.com/profile-images/uuid_파일명.jpg
-            // -> profile-images/uuid_파일명.jpg
-            final String key = fileUrl.substring(fileUrl.indexOf(".com/") + 5);
+            final String key = toKey(fileUrl);
 
             // 2. S3 클라이언트를 사용하여 객체 삭제를 요청합니다.
             amazonS3Client.deleteObject(bucket, key);
@@ -90,4 +140,39 @@ public class S3Uploader implements Uploader {
             log.error("S3 파일 삭제 중 오류 발생. URL: {}", fileUrl, e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public Set<String> deleteAll(Collection<String> fileUrls) {
+        Map<String, String> urlsByKey = new HashMap<>();
+        for (String fileUrl : fileUrls) {
+            if (!isNotDeletable(fileUrl)) {
+                urlsByKey.put(toKey(fileUrl), fileUrl);
+            }
+        }
+
+        Set<String> failedUrls = new HashSet<>();
+        List<String> keys = new ArrayList<>(urlsByKey.keySet());
+        // 한 번의 DeleteObjects 요청으로 최대 1000개까지 삭제 가능
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_DELETE) {
+            List<String> chunk = keys.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, keys.size()));
+            DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                    .withKeys(chunk.toArray(new String[0]))
+                    .withQuiet(true); // 실패한 키만 응답에 포함
+            try {
+                amazonS3Client.deleteObjects(request);
+                log.info("S3 파일 일괄 삭제 완료 - {}개", chunk.size());
+            } catch (MultiObjectDeleteException e) {
+                e.getErrors().forEach(error -> failedUrls.add(urlsByKey.get(error.getKey())));
+                log.warn("S3 파일 일괄 삭제 중 일부 실패 - 요청: {}개, 실패: {}개", chunk.size(), e.getErrors().size());
+            } catch (AmazonClientException e) {
+                chunk.forEach(key -> failedUrls.add(urlsByKey.get(key)));
+                log.error("S3 파일 일괄 삭제 중 오류 발생 - {}개", chunk.size(), e);
+            }
+        }
+        return failedUrls;
+    }
+
+    private static boolean isNotDeletable(String fileUrl) {
+        return fileUrl == null || fileUrl.isEmpty() || fileUrl.contains("default_profile.png");
+    }
+}
@@ -0,0 +1,51 @@
+package com.sinsaimdang.masilkkoon.masil.common.s3;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 해시 기반 경로로 저장된 파일과 참조 수<br>
+ * 같은 내용의 파일은 한 번만 업로드되고, 이를 사용하는 곳(게시글 장소, 프로필)마다 참조 수가 하나씩 늘어납니다.
+ * 참조 수가 0 이 되면 행과 실제 파일이 함께 삭제됩니다.
+ *
+ * @see ContentAddressedStorage
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "stored_files", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stored_files_file_key", columnNames = {"file_key"}),
+        @UniqueConstraint(name = "uk_stored_files_file_url", columnNames = {"file_url"})
+})
+@Entity
+public class StoredFile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stored_file_id")
+    private Long id;
+
+    // 디렉토리/SHA-256(hex).확장자
+    @Column(name = "file_key", nullable = false, length = 255)
+    private String fileKey;
+
+    @Column(name = "file_url", nullable = false, length = 500)
+    private String fileUrl;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    // 원격 저장소 업로드 완료 여부 - 완료되기 전에는 같은 내용을 저장하는 쪽이 직접 업로드함
+    @Column(nullable = false)
+    private boolean uploaded;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
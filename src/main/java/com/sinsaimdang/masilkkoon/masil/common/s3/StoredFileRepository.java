@@ -0,0 +1,51 @@
+package com.sinsaimdang.masilkkoon.masil.common.s3;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+    // 삭제 직전 다시 참조된 파일 확인 - 없는 URL 도 잠가(갭 잠금) 삭제가 끝날 때까지 같은 URL 의 새 참조 추가를 막음
+    @Query(value = "SELECT file_url FROM stored_files WHERE file_url IN (:fileUrls) FOR UPDATE", nativeQuery = true)
+    List<String> lockReferencedUrls(@Param("fileUrls") Collection<String> fileUrls);
+
+    // 반환값: 갱신된 행 수 (0 = 참조 수로 관리하지 않는 파일)
+    @Modifying
+    @Query("UPDATE StoredFile f SET f.refCount = f.refCount + 1 WHERE f.fileUrl = :fileUrl")
+    int incrementRefCountByFileUrl(@Param("fileUrl") String fileUrl);
+
+    // 같은 내용이 동시에 업로드된 경우에도 유니크 제약 위반 없이 참조 수만 늘어남
+    // 반환값: 1 = 새로 추가됨, 2 = 이미 있어 참조 수만 늘어남 (MySQL ON DUPLICATE KEY UPDATE 의 영향 행 수)
+    @Modifying
+    @Query(value = "INSERT INTO stored_files (file_key, file_url, ref_count, uploaded, created_at) " +
+            "VALUES (:fileKey, :fileUrl, 1, FALSE, NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1",
+            nativeQuery = true)
+    int insertOrIncrementRefCount(@Param("fileKey") String fileKey, @Param("fileUrl") String fileUrl);
+
+    // 반환값: 업로드 완료 여부, 행이 없으면 empty
+    @Query("SELECT f.uploaded FROM StoredFile f WHERE f.fileKey = :fileKey")
+    Optional<Boolean> findUploadedByFileKey(@Param("fileKey") String fileKey);
+
+    @Modifying
+    @Query("UPDATE StoredFile f SET f.uploaded = true WHERE f.fileKey = :fileKey")
+    int markUploaded(@Param("fileKey") String fileKey);
+
+    // 반환값: 갱신된 행 수 (0 = 참조 수로 관리하지 않는 파일)
+    @Modifying
+    @Query("UPDATE StoredFile f SET f.refCount = f.refCount - 1 WHERE f.fileUrl = :fileUrl AND f.refCount > 0")
+    int decrementRefCountByFileUrl(@Param("fileUrl") String fileUrl);
+
+    // 반환값: 삭제된 행 수 (1 = 마지막 참조가 사라져 실제 파일도 삭제 예약해야 함)
+    @Modifying
+    @Query("DELETE FROM StoredFile f WHERE f.fileUrl = :fileUrl AND f.refCount = 0")
+    int deleteUnreferenced(@Param("fileUrl") String fileUrl);
+}
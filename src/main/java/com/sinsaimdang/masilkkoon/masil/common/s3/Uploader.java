@@ -2,8 +2,28 @@ package com.sinsaimdang.masilkkoon.masil.common.s3;
 
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Set;
 
 public interface Uploader {
     String upload(MultipartFile multipartFile, String dirName) throws IOException;
+
+    // 스트림을 그대로 업로드하는 메서드 (서버에서 생성한 파일 등, 길이를 알아야 버퍼링 없이 전송 가능)
+    String upload(InputStream inputStream, long contentLength, String contentType,
+                  String originalFilename, String dirName) throws IOException;
+
+    // 지정한 경로(디렉토리/파일명)에 그대로 업로드하는 메서드 (내용 해시 기반 경로 등, 같은 경로의 파일은 덮어씀)
+    String uploadToPath(InputStream inputStream, long contentLength, String contentType, String path) throws IOException;
+
+    // 업로드된 파일의 내용을 읽는 메서드 (변형 이미지 생성 등, 사용 후 스트림을 닫아야 함)
+    InputStream download(String fileUrl) throws IOException;
+
+    // 경로(디렉토리/파일명)에 업로드될 파일의 URL (업로드 전에 URL 을 먼저 기록해야 하는 경우)
+    String urlOf(String path);
+
     void delete(String fileUrl); // 파일 URL을 받아 파일을 삭제하는 메서드
-}
\ No newline at end of file
+
+    // 여러 파일을 한 번에 삭제하는 메서드 (지원하는 저장소는 묶어서 한 번에 요청), 반환값: 삭제에 실패한 URL
+    Set<String> deleteAll(Collection<String> fileUrls);
+}
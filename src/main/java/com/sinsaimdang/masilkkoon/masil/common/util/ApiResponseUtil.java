@@ -51,4 +51,8 @@ public class ApiResponseUtil {
     public static ResponseEntity<Map<String, Object>> internalServerError(String message) {
         return error(HttpStatus.INTERNAL_SERVER_ERROR, message);
     }
+
+    public static ResponseEntity<Map<String, Object>> serviceUnavailable(String message) {
+        return error(HttpStatus.SERVICE_UNAVAILABLE, message);
+    }
 }
@@ -0,0 +1,23 @@
+package com.sinsaimdang.masilkkoon.masil.region.dto;
+
+import lombok.Getter;
+
+/**
+ * 메모리에 적재되는 지역 계층 정보 (불변)
+ */
+@Getter
+public class RegionNode {
+    private final Long id;
+    private final String name;
+    private final Long parentId; // 최상위 지역(시/도)이면 null
+
+    public RegionNode(Long id, String name, Long parentId) {
+        this.id = id;
+        this.name = name;
+        this.parentId = parentId;
+    }
+
+    public boolean isTopLevel() {
+        return parentId == null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.sinsaimdang.masilkkoon.masil.region.repository;
 
+import com.sinsaimdang.masilkkoon.masil.region.dto.RegionNode;
 import com.sinsaimdang.masilkkoon.masil.region.entity.Region;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -17,4 +18,9 @@ public interface RegionRepository extends JpaRepository<Region, Long> {
 
     @Query("select r from Region r left join fetch r.children where r.parent is null")
     List<Region> findAllByParentIsNull();
+
+    // 지역 계층 전체를 한 번에 조회 (RegionHierarchy 적재용)
+    @Query("select new com.sinsaimdang.masilkkoon.masil.region.dto.RegionNode(r.id, r.name, p.id) " +
+            "from Region r left join r.parent p")
+    List<RegionNode> findAllNodes();
 }
@@ -0,0 +1,139 @@
+package com.sinsaimdang.masilkkoon.masil.region.service;
+
+import com.sinsaimdang.masilkkoon.masil.region.dto.RegionNode;
+import com.sinsaimdang.masilkkoon.masil.region.repository.RegionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 지역 계층 정보를 메모리에 보관하는 컴포넌트<br>
+ * regions 테이블은 거의 변하지 않으므로 시작 시 한 번 적재하여 이름/ID 조회를 DB 조회 없이 처리합니다.
+ * 지역 데이터를 수정한 경우 {@link #reload()} 를 호출하여 다시 적재해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RegionHierarchy {
+
+    private final RegionRepository regionRepository;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * DB에서 지역 계층을 다시 읽어 교체합니다. (관리자 지역 데이터 수정 후 호출)
+     */
+    public synchronized void reload() {
+        List<RegionNode> nodes = regionRepository.findAllNodes();
+        this.snapshot = new Snapshot(nodes);
+        log.info("지역 계층 정보 적재 완료 - 지역 수: {}", nodes.size());
+    }
+
+    public Optional<RegionNode> findById(Long regionId) {
+        return Optional.ofNullable(snapshot().byId.get(regionId));
+    }
+
+    /**
+     * 최상위 지역(시/도)을 이름으로 조회합니다.
+     */
+    public Optional<RegionNode> findTopLevel(String name) {
+        return Optional.ofNullable(snapshot().topLevelByName.get(name));
+    }
+
+    /**
+     * 상위 지역 아래의 하위 지역(시/군/구)을 이름으로 조회합니다.
+     */
+    public Optional<RegionNode> findChild(Long parentId, String childName) {
+        Map<String, RegionNode> children = snapshot().childByParentAndName.get(parentId);
+        return children == null ? Optional.empty() : Optional.ofNullable(children.get(childName));
+    }
+
+    public List<RegionNode> getTopLevelRegions() {
+        return snapshot().topLevel;
+    }
+
+    public List<RegionNode> getChildren(Long parentId) {
+        return snapshot().childrenById.getOrDefault(parentId, Collections.emptyList());
+    }
+
+    /**
+     * 이름이 일치하는 모든 지역과 그 하위 지역의 ID 목록을 반환합니다.<br>
+     * 예) '서울특별시' -> 서울특별시 + 모든 구, '중구' -> 여러 시의 중구
+     * @return 해당 지역 ID 집합, 일치하는 지역이 없으면 빈 집합
+     */
+    public Set<Long> findSelfAndDescendantIds(String name) {
+        return snapshot().selfAndDescendantIdsByName.getOrDefault(name, Collections.emptySet());
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            // 시작 이벤트 이전에 호출된 경우 즉시 적재
+            synchronized (this) {
+                if (this.snapshot == null) {
+                    reload();
+                }
+                current = this.snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static final class Snapshot {
+        private final Map<Long, RegionNode> byId = new HashMap<>();
+        private final Map<String, RegionNode> topLevelByName = new HashMap<>();
+        private final Map<Long, Map<String, RegionNode>> childByParentAndName = new HashMap<>();
+        private final Map<Long, List<RegionNode>> childrenById = new HashMap<>();
+        private final Map<String, Set<Long>> selfAndDescendantIdsByName = new HashMap<>();
+        private final List<RegionNode> topLevel;
+
+        private Snapshot(List<RegionNode> nodes) {
+            List<RegionNode> topLevelNodes = new ArrayList<>();
+            for (RegionNode node : nodes) {
+                byId.put(node.getId(), node);
+                if (node.isTopLevel()) {
+                    topLevelByName.put(node.getName(), node);
+                    topLevelNodes.add(node);
+                } else {
+                    childByParentAndName.computeIfAbsent(node.getParentId(), id -> new HashMap<>())
+                            .put(node.getName(), node);
+                    childrenById.computeIfAbsent(node.getParentId(), id -> new ArrayList<>()).add(node);
+                }
+            }
+
+            Map<String, Set<Long>> idsByName = new HashMap<>();
+            for (RegionNode node : nodes) {
+                Set<Long> ids = idsByName.computeIfAbsent(node.getName(), name -> new HashSet<>());
+                ids.add(node.getId());
+                collectDescendantIds(node.getId(), ids);
+            }
+            idsByName.forEach((name, ids) -> selfAndDescendantIdsByName.put(name, Collections.unmodifiableSet(ids)));
+            childrenById.replaceAll((id, children) -> Collections.unmodifiableList(children));
+            this.topLevel = Collections.unmodifiableList(topLevelNodes);
+        }
+
+        private void collectDescendantIds(Long regionId, Set<Long> ids) {
+            for (RegionNode child : childrenById.getOrDefault(regionId, Collections.emptyList())) {
+                if (ids.add(child.getId())) {
+                    collectDescendantIds(child.getId(), ids);
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.sinsaimdang.masilkkoon.masil.user.controller;
 
-import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleResponse;
+import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleCardResponse;
 import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleSearchCondition;
 import com.sinsaimdang.masilkkoon.masil.article.service.ArticleService;
 import com.sinsaimdang.masilkkoon.masil.auth.dto.CurrentUser;
@@ -14,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -215,13 +216,15 @@ public class UserController {
      * @param currentUser 현재 사용자 정보
      * @param condition 검색 조건
      * @param pageable 페이징 정보
+     * @param withTotal false 이면 전체 개수를 세지 않고 다음 페이지 존재 여부(hasNext)만 반환
      * @return 스크랩한 게시글 DTO 목록
      */
     @GetMapping("/scraps")
     public ResponseEntity<Map<String, Object>> getMyScrapedArticles(
             CurrentUser currentUser,
             ArticleSearchCondition condition,
-            Pageable pageable) {
+            Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
 
         log.info("API REQ >> GET /api/user/scraps | 요청자 ID: {}", currentUser.getId());
 
@@ -230,7 +233,14 @@ public class UserController {
         }
 
         try {
-            Page<ArticleResponse> scrapedArticles = articleService.getScrapedArticles(currentUser.getId(), condition, pageable);
+            if (!withTotal) {
+                Slice<ArticleCardResponse> scrapedSlice = articleService.getScrapedArticlesSlice(currentUser.getId(), condition, pageable);
+                log.info("API RES >> GET /api/user/scraps | 요청자 ID: {}, 조회된 게시글 수: {}",
+                        currentUser.getId(), scrapedSlice.getContent().size());
+                return ApiResponseUtil.success("스크랩 목록 조회 성공", scrapedSlice);
+            }
+
+            Page<ArticleCardResponse> scrapedArticles = articleService.getScrapedArticles(currentUser.getId(), condition, pageable);
 
             log.info("API RES >> GET /api/user/scraps | 요청자 ID: {}, 조회된 게시글 수: {}",
                     currentUser.getId(), scrapedArticles.getContent().size());
@@ -258,7 +268,7 @@ public class UserController {
         log.info("API REQ >> GET /api/user/{}/articles | 요청자 ID: {}", userId, currentUser.getId());
 
         try {
-            Page<ArticleResponse> userArticles = articleService.findArticlesByUserId(userId, currentUser.getId(), pageable);
+            Page<ArticleCardResponse> userArticles = articleService.findArticlesByUserId(userId, currentUser.getId(), pageable);
 
             log.info("API RES >> GET /api/user/{}/articles | 조회된 게시글 수: {}",
                     userId, userArticles.getContent().size());
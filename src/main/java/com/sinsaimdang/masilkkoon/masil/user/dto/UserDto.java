@@ -20,6 +20,7 @@ public class UserDto {
     private String name;
     private String nickname;
     private String profileImageUrl;
+    private String profileImageThumbnailUrl;
     private int followerCount;
     private int followingCount;
 
@@ -36,6 +37,7 @@ public class UserDto {
                 .name(user.getName())
                 .nickname(user.getNickname())
                 .profileImageUrl(user.getProfileImageUrl())
+                .profileImageThumbnailUrl(user.getProfileImageThumbnailUrl())
                 .followerCount(user.getFollowerCount())
                 .followingCount(user.getFollowingCount())
                 .build();
@@ -135,6 +135,10 @@ public class User {
     @Column(length = 1000)
     private String profileImageUrl;
 
+    // 프로필 이미지의 썸네일 (백그라운드에서 생성, 생성 전이거나 기본 이미지인 경우 null)
+    @Column(length = 1000)
+    private String profileImageThumbnailUrl;
+
     /**
      * 계정 생성 일시<br>
      * <br>
@@ -189,6 +193,7 @@ public class User {
 
     public void updateProfileImageUrl(String newProfileImageUrl) {
         this.profileImageUrl = newProfileImageUrl;
+        this.profileImageThumbnailUrl = null; // 새 이미지의 썸네일은 백그라운드에서 다시 생성
     }
 
     @Override
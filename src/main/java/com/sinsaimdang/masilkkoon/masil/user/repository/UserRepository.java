@@ -2,6 +2,9 @@ package com.sinsaimdang.masilkkoon.masil.user.repository;
 
 import com.sinsaimdang.masilkkoon.masil.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -40,4 +43,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 중복 여부
      */
     boolean existsByNickname(String nickname);
+
+    /**
+     * 비밀번호 해시가 기존 값 그대로인 경우에만 새 해시로 교체합니다. (해시 비용 갱신용)
+     *
+     * @return 갱신된 행 수, 그 사이 비밀번호가 변경되었으면 0
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.sinsaimdang.masilkkoon.masil.user.service;
+
+import lombok.Getter;
+
+/**
+ * 프로필 이미지가 새로 업로드되었음을 알리는 이벤트 (썸네일 생성용)
+ */
+@Getter
+public class ProfileImageUploadedEvent {
+
+    private final Long userId;
+    private final String imageUrl;
+
+    public ProfileImageUploadedEvent(Long userId, String imageUrl) {
+        this.userId = userId;
+        this.imageUrl = imageUrl;
+    }
+}
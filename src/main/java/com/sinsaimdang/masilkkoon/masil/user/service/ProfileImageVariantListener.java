@@ -0,0 +1,47 @@
+package com.sinsaimdang.masilkkoon.masil.user.service;
+
+import com.sinsaimdang.masilkkoon.masil.article.service.ArticleDetailCache;
+import com.sinsaimdang.masilkkoon.masil.common.image.ImageVariant;
+import com.sinsaimdang.masilkkoon.masil.common.image.ImageVariantProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumSet;
+import java.util.Map;
+
+/**
+ * 프로필 이미지 썸네일을 프로필 변경 커밋 이후 백그라운드에서 생성하고 저장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProfileImageVariantListener {
+
+    private static final String VARIANT_DIR = "profile-images/variants";
+
+    private final ImageVariantProcessor imageVariantProcessor;
+    private final JdbcTemplate jdbcTemplate;
+    private final ArticleDetailCache articleDetailCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProfileImageUploaded(ProfileImageUploadedEvent event) {
+        imageVariantProcessor.submit(event.getImageUrl(), EnumSet.of(ImageVariant.THUMBNAIL), VARIANT_DIR,
+                variantUrls -> storeThumbnail(event.getUserId(), event.getImageUrl(), variantUrls));
+    }
+
+    // 그 사이 프로필 이미지가 다시 바뀌었거나 탈퇴한 경우 false
+    private boolean storeThumbnail(Long userId, String imageUrl, Map<ImageVariant, String> variantUrls) {
+        int updated = jdbcTemplate.update(
+                "UPDATE users SET profile_image_thumbnail_url = ? WHERE id = ? AND profile_image_url = ?",
+                variantUrls.get(ImageVariant.THUMBNAIL), userId, imageUrl);
+        if (updated == 0) {
+            return false;
+        }
+        articleDetailCache.evictByAuthor(userId);
+        return true;
+    }
+}
@@ -1,11 +1,16 @@
 package com.sinsaimdang.masilkkoon.masil.user.service;
 
 import com.sinsaimdang.masilkkoon.masil.article.entity.Article;
+import com.sinsaimdang.masilkkoon.masil.article.service.ArticleCountCache;
 import com.sinsaimdang.masilkkoon.masil.article.repository.ArticleLikeRepository;
 import com.sinsaimdang.masilkkoon.masil.article.repository.ArticleRepository;
 import com.sinsaimdang.masilkkoon.masil.article.repository.ArticleScrapRepository;
+import com.sinsaimdang.masilkkoon.masil.article.service.ArticleDetailCache;
+import com.sinsaimdang.masilkkoon.masil.article.service.ArticleFeedCache;
+import com.sinsaimdang.masilkkoon.masil.article.service.ArticleInteractionCache;
+import com.sinsaimdang.masilkkoon.masil.auth.service.PasswordHasher;
 import com.sinsaimdang.masilkkoon.masil.auth.validator.SignupValidator;
-import com.sinsaimdang.masilkkoon.masil.common.s3.Uploader;
+import com.sinsaimdang.masilkkoon.masil.common.s3.ContentAddressedStorage;
 import com.sinsaimdang.masilkkoon.masil.user.dto.UserDto;
 import com.sinsaimdang.masilkkoon.masil.user.entity.User;
 import com.sinsaimdang.masilkkoon.masil.user.repository.FollowRepository;
@@ -14,11 +19,14 @@ import com.sinsaimdang.masilkkoon.masil.visit.repository.VisitRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.io.IOException;
 import java.util.Objects;
@@ -35,15 +43,21 @@ public class UserService {
     private final ArticleRepository articleRepository;
     private final ArticleLikeRepository articleLikeRepository;
     private final ArticleScrapRepository articleScrapRepository;
+    private final ArticleCountCache articleCountCache;
+    private final ArticleInteractionCache articleInteractionCache;
+    private final ArticleDetailCache articleDetailCache;
+    private final ArticleFeedCache articleFeedCache;
     private final FollowRepository followRepository;
     private final VisitRepository visitRepository;
     @Value("${user.default-profile-image-url}")
     private String defaultProfileImageUrl;
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final Uploader uploader;
+    private final PasswordHasher passwordHasher;
+    private final ContentAddressedStorage contentAddressedStorage;
     private final SignupValidator signupValidator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * ID로 사용자를 조회합니다.
@@ -114,6 +128,7 @@ public class UserService {
 
         user.updateNickname(normalizedNickname);
         User savedUser = userRepository.save(user);
+        articleDetailCache.evictByAuthor(id); // 캐시된 게시글 상세의 작성자 정보 갱신
 
         log.info("사용자 닉네임 수정 완료 - ID = {}, 닉네임 = {}", id, normalizedNickname);
         return UserDto.from(savedUser);
@@ -126,18 +141,19 @@ public class UserService {
      * @param newPassword 새로운 비밀번호
      * @return 수정된 사용자 정보 DTO
      */
-    @Transactional
     public UserDto updatePassword(Long userId, String newPassword) {
         log.info("사용자 비밀번호 변경 요청 - ID: {}", userId);
 
-        User user = getUserEntity(userId);
-
         signupValidator.validatePassword(newPassword);
 
-        String encodedPassword = passwordEncoder.encode(newPassword);
+        // 해시를 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 시작 전에 수행
+        String encodedPassword = passwordHasher.encode(newPassword);
 
-        user.updatePassword(encodedPassword);
-        User savedUser = userRepository.save(user);
+        User savedUser = transactionTemplate.execute(status -> {
+            User user = getUserEntity(userId);
+            user.updatePassword(encodedPassword);
+            return userRepository.save(user);
+        });
 
         log.info("사용자 비밀번호 변경 완료 - ID: {}", userId);
         return UserDto.from(savedUser);
@@ -183,31 +199,43 @@ public class UserService {
 
     /**
      * 사용자의 프로필 이미지를 변경합니다.
+     * 이미지는 트랜잭션 밖에서 업로드하고, DB 커넥션은 마지막 저장에만 사용합니다.
+     * 저장에 실패하면 새 이미지의 참조를 해제합니다.
      *
      * @param userId           변경할 사용자의 ID
      * @param profileImageFile 새로운 프로필 이미지 파일
      * @return 수정된 사용자 정보 DTO
      * @throws IOException 파일 처리 중 발생할 수 있는 예외
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDto updateProfileImage(Long userId, MultipartFile profileImageFile) throws IOException {
         log.info("프로필 이미지 업데이트 요청 - ID: {}", userId);
 
-        User user = getUserEntity(userId);
-        String oldImageUrl = user.getProfileImageUrl();
-
-        // 새 이미지 업로드
-        String newImageUrl = uploader.upload(profileImageFile, "profile-images");
-
-        // 기존 이미지가 기본 이미지가 아닐 경우에만 삭제
-        if (oldImageUrl != null && !oldImageUrl.equals(defaultProfileImageUrl)) {
-            uploader.delete(oldImageUrl);
-            log.info("기존 프로필 이미지 삭제 완료 - URL: {}", oldImageUrl);
+        // 1. 새 이미지 업로드 (같은 내용의 이미지가 이미 있으면 참조만 추가, 참조는 별도 트랜잭션으로 바로 커밋됨)
+        String newImageUrl = contentAddressedStorage.store(profileImageFile, "profile-images");
+
+        // 2. 사용자 정보 저장 (이 구간에서만 트랜잭션/커넥션 사용)
+        User savedUser;
+        try {
+            savedUser = transactionTemplate.execute(status -> {
+                User user = getUserEntity(userId);
+
+                // 기존 이미지가 기본 이미지가 아닐 경우에만 참조 해제 (마지막 참조면 커밋 이후 백그라운드에서 삭제)
+                releaseProfileImages(user.getProfileImageUrl(), user.getProfileImageThumbnailUrl());
+
+                user.updateProfileImageUrl(newImageUrl);
+                User saved = userRepository.save(user);
+                articleDetailCache.evictByAuthor(userId);
+                // 커밋 이후 백그라운드에서 썸네일 생성
+                eventPublisher.publishEvent(new ProfileImageUploadedEvent(userId, newImageUrl));
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            log.warn("프로필 이미지 업데이트 실패 - 새 이미지 참조 해제: {}", newImageUrl);
+            contentAddressedStorage.releaseAll(List.of(newImageUrl));
+            throw e;
         }
 
-        user.updateProfileImageUrl(newImageUrl);
-        User savedUser = userRepository.save(user);
-
         log.info("프로필 이미지 업데이트 완료 - ID: {}", userId);
         return UserDto.from(savedUser);
     }
@@ -224,20 +252,31 @@ public class UserService {
 
         User user = getUserEntity(userId);
         String oldImageUrl = user.getProfileImageUrl();
+        String oldThumbnailUrl = user.getProfileImageThumbnailUrl();
 
-        // 기존 이미지가 기본 이미지가 아닐 경우에만 삭제
-        if (oldImageUrl != null && !defaultProfileImageUrl.equals(oldImageUrl)) {
-            uploader.delete(oldImageUrl);
-            log.info("기존 프로필 이미지 삭제 완료 - URL: {}", oldImageUrl);
-        }
+        // 기존 이미지가 기본 이미지가 아닐 경우에만 참조 해제 (마지막 참조면 커밋 이후 백그라운드에서 삭제)
+        releaseProfileImages(oldImageUrl, oldThumbnailUrl);
 
         user.updateProfileImageUrl(defaultProfileImageUrl); // 기본 이미지로 설정
         User savedUser = userRepository.save(user);
+        articleDetailCache.evictByAuthor(userId);
 
         log.info("프로필 이미지 삭제 후 기본 이미지로 변경 완료 - ID: {}", userId);
         return UserDto.from(savedUser);
     }
 
+    private void releaseProfileImages(String oldImageUrl, String oldThumbnailUrl) {
+        List<String> urlsToRelease = new ArrayList<>();
+        if (oldImageUrl != null && !defaultProfileImageUrl.equals(oldImageUrl)) {
+            urlsToRelease.add(oldImageUrl);
+            log.info("기존 프로필 이미지 참조 해제 - URL: {}", oldImageUrl);
+        }
+        if (oldThumbnailUrl != null) {
+            urlsToRelease.add(oldThumbnailUrl);
+        }
+        contentAddressedStorage.releaseAll(urlsToRelease);
+    }
+
     /**
      * ID로 User 엔티티를 조회합니다.
      *
@@ -272,10 +311,14 @@ public class UserService {
         log.info("사용자가 남긴 좋아요 삭제 - ID {}", userId);
 
         articleScrapRepository.deleteAllByUserId(userId);
+        articleInteractionCache.evict(userId);
         log.info("사용자가 남긴 스크랩 삭제 - ID {}", userId);
 
         List<Article> articlesByUser = articleRepository.findAllByUserId(userId);
         articleRepository.deleteAll(articlesByUser);
+        articleCountCache.invalidateAll();
+        articleFeedCache.invalidateAll();
+        articleDetailCache.evictByAuthor(userId);
         log.info("사용자가 작성한 게시글 삭제 - ID {}", userId);
 
         followRepository.deleteAllByUserId(userId);
@@ -3,8 +3,9 @@ package com.sinsaimdang.masilkkoon.masil.visit.service;
 import com.sinsaimdang.masilkkoon.masil.visit.dto.MapStampResponse;
 import com.sinsaimdang.masilkkoon.masil.visit.entity.Visit;
 import com.sinsaimdang.masilkkoon.masil.visit.repository.VisitRepository;
-import com.sinsaimdang.masilkkoon.masil.region.entity.Region;
+import com.sinsaimdang.masilkkoon.masil.region.dto.RegionNode;
 import com.sinsaimdang.masilkkoon.masil.region.repository.RegionRepository;
+import com.sinsaimdang.masilkkoon.masil.region.service.RegionHierarchy;
 import com.sinsaimdang.masilkkoon.masil.user.entity.User;
 import com.sinsaimdang.masilkkoon.masil.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,7 @@ import java.util.stream.Collectors;
 public class VisitService {
 
     private final RegionRepository regionRepository;
+    private final RegionHierarchy regionHierarchy;
     private final VisitRepository userVisitRepository;
     private final UserRepository userRepository;
 
@@ -40,7 +42,7 @@ public class VisitService {
             return false;
         }
 
-        Region parentRegion = regionRepository.findByNameAndParentIsNull(region1DepthName)
+        RegionNode parentRegion = regionHierarchy.findTopLevel(region1DepthName)
                 .orElse(null);
 
         if (parentRegion == null) {
@@ -48,7 +50,7 @@ public class VisitService {
             return false;
         }
 
-        Region childRegion = regionRepository.findByNameAndParent(region2DepthName, parentRegion)
+        RegionNode childRegion = regionHierarchy.findChild(parentRegion.getId(), region2DepthName)
                 .orElse(null);
 
         if (childRegion == null) {
@@ -63,13 +65,13 @@ public class VisitService {
         return true;
     }
 
-    private void recordVisit(User user, Region region) {
+    private void recordVisit(User user, RegionNode region) {
         Visit visit = userVisitRepository.findByUserIdAndRegionId(user.getId(), region.getId())
                         .orElse(null);
 
         if (visit == null) {
             log.debug("첫 방문 기록 생성 - 사용자 ID :{}, 지역 :{}", user.getId(), region.getName());
-            visit = new Visit(user, region);
+            visit = new Visit(user, regionRepository.getReferenceById(region.getId()));
         } else {
             log.debug("방문횟수 증가 - 사용자 ID {}, 지역 {}, 기존 방문 {}, 업데이트 횟수 {}", user.getId(), region.getName(), visit.getVisitCount(), visit.getVisitCount() + 1);
             visit.incrementVisitCount();
@@ -86,11 +88,11 @@ public class VisitService {
                     return new IllegalArgumentException("존재하지 않는 사용자입니다: " + userId);
                 });
 
-        List<Region> allTopRegions = regionRepository.findAllByParentIsNull();
+        List<RegionNode> allTopRegions = regionHierarchy.getTopLevelRegions();
         List<MapStampResponse> response = new ArrayList<>();
 
-        for (Region topRegion : allTopRegions) {
-            List<Region> children  = topRegion.getChildren();
+        for (RegionNode topRegion : allTopRegions) {
+            List<RegionNode> children  = regionHierarchy.getChildren(topRegion.getId());
             int totalChildrenCount = children.size();
 
             if(totalChildrenCount == 0){
@@ -101,7 +103,7 @@ public class VisitService {
             }
 
             List<Long> childrenIds = children.stream()
-                    .map(Region::getId)
+                    .map(RegionNode::getId)
                     .collect(Collectors.toList());
 
             long visitedChildrenCount = userVisitRepository.countByUserIdAndRegionIdIn(userId, childrenIds);
@@ -0,0 +1,9 @@
+-- 로그아웃한 사용자의 Access Token 폐기 기준 (여러 서버가 공유, 각 서버가 주기적으로 읽어 메모리에 반영)
+-- revoked_before 는 epoch 초 - 이보다 먼저 발급된(iat) 토큰은 거부됨
+
+CREATE TABLE access_token_revocations (
+    email VARCHAR(100) NOT NULL,
+    revoked_before BIGINT NOT NULL,
+    PRIMARY KEY (email),
+    INDEX idx_access_token_revocations_revoked_before (revoked_before)
+);
@@ -0,0 +1,21 @@
+-- 게시글 목록 카드용 요약(excerpt) / 대표 사진(cover_photo_url) 컬럼 추가 및 기존 데이터 이관
+-- 요약 규칙은 Article.createExcerpt 와 동일 (공백 정리 후 100자, 초과 시 '...')
+
+ALTER TABLE articles ADD COLUMN excerpt VARCHAR(500) NULL;
+ALTER TABLE articles ADD COLUMN cover_photo_url VARCHAR(1000) NULL;
+
+UPDATE articles a
+SET a.excerpt = CASE
+        WHEN CHAR_LENGTH(TRIM(REGEXP_REPLACE(a.content, '[[:space:]]+', ' '))) <= 100
+            THEN TRIM(REGEXP_REPLACE(a.content, '[[:space:]]+', ' '))
+        ELSE CONCAT(LEFT(TRIM(REGEXP_REPLACE(a.content, '[[:space:]]+', ' ')), 100), '...')
+    END,
+    a.cover_photo_url = (
+        SELECT p.photo_url
+        FROM article_places p
+        WHERE p.article_id = a.article_id
+          AND p.photo_url IS NOT NULL
+          AND p.photo_url <> ''
+        ORDER BY p.place_order
+        LIMIT 1
+    );
@@ -0,0 +1,6 @@
+-- article_places 를 값 타입 컬렉션에서 자체 ID 를 가진 엔티티 테이블로 변경
+-- 기존 행에는 자동 증가 ID 가 순서대로 채워짐
+
+ALTER TABLE article_places
+    ADD COLUMN article_place_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY FIRST,
+    ADD INDEX idx_article_places_article_id_place_order (article_id, place_order);
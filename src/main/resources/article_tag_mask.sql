@@ -0,0 +1,15 @@
+-- 게시글 태그 비트마스크(tag_mask) 컬럼 추가 및 기존 데이터 이관
+-- 비트 값은 ArticleTag 의 값과 동일해야 함 (TRAVEL_SPOT = 1, RESTAURANT = 2, CAFE = 4)
+
+ALTER TABLE articles ADD COLUMN tag_mask INT NOT NULL DEFAULT 0;
+
+-- article_tags 의 태그를 비트마스크로 합산하여 채움
+UPDATE articles a
+SET a.tag_mask = COALESCE((
+    SELECT SUM(CASE t.tag WHEN 'TRAVEL_SPOT' THEN 1 WHEN 'RESTAURANT' THEN 2 WHEN 'CAFE' THEN 4 ELSE 0 END)
+    FROM (SELECT DISTINCT article_id, tag FROM article_tags) t
+    WHERE t.article_id = a.article_id
+), 0);
+
+-- 지역 + 태그 필터 후 최신순 정렬
+CREATE INDEX idx_articles_region_tag_mask_created_at ON articles (region_id, tag_mask, created_at, article_id);
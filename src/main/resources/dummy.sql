@@ -105,4 +105,32 @@ INSERT INTO article_scrap (user_id, article_id, created_at) VALUES (1, 3, NOW())
 INSERT INTO article_scrap (user_id, article_id, created_at) VALUES (1, 4, NOW());
 
 -- 2번 유저가 1번 게시글을 스크랩합니다.
-INSERT INTO article_scrap (user_id, article_id, created_at) VALUES (2, 1, NOW());
\ No newline at end of file
+INSERT INTO article_scrap (user_id, article_id, created_at) VALUES (2, 1, NOW());
+-- =================================================================================================
+-- 5. 게시글 태그 비트마스크(tag_mask) 동기화
+-- =================================================================================================
+UPDATE articles a
+SET a.tag_mask = COALESCE((
+    SELECT SUM(CASE t.tag WHEN 'TRAVEL_SPOT' THEN 1 WHEN 'RESTAURANT' THEN 2 WHEN 'CAFE' THEN 4 ELSE 0 END)
+    FROM (SELECT DISTINCT article_id, tag FROM article_tags) t
+    WHERE t.article_id = a.article_id
+), 0);
+
+-- =================================================================================================
+-- 6. 게시글 목록 카드용 요약(excerpt) / 대표 사진(cover_photo_url) 동기화
+-- =================================================================================================
+UPDATE articles a
+SET a.excerpt = CASE
+        WHEN CHAR_LENGTH(TRIM(REGEXP_REPLACE(a.content, '[[:space:]]+', ' '))) <= 100
+            THEN TRIM(REGEXP_REPLACE(a.content, '[[:space:]]+', ' '))
+        ELSE CONCAT(LEFT(TRIM(REGEXP_REPLACE(a.content, '[[:space:]]+', ' ')), 100), '...')
+    END,
+    a.cover_photo_url = (
+        SELECT p.photo_url
+        FROM article_places p
+        WHERE p.article_id = a.article_id
+          AND p.photo_url IS NOT NULL
+          AND p.photo_url <> ''
+        ORDER BY p.place_order
+        LIMIT 1
+    );
@@ -0,0 +1,11 @@
+-- 삭제 예정 파일 아웃박스 (FileDeletionWorker 가 주기적으로 비움)
+
+CREATE TABLE file_deletion_outbox (
+    file_deletion_id BIGINT NOT NULL AUTO_INCREMENT,
+    file_url VARCHAR(1000) NOT NULL,
+    attempts INT NOT NULL,
+    next_attempt_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (file_deletion_id),
+    INDEX idx_file_deletion_outbox_next_attempt_at (next_attempt_at)
+);
@@ -0,0 +1,13 @@
+-- 변형 이미지(썸네일/카드/웹) URL 컬럼 추가
+-- 변형 이미지는 업로드 이후 백그라운드에서 생성되므로 모두 NULL 허용 (NULL 이면 원본 URL 사용)
+
+ALTER TABLE article_places
+    ADD COLUMN photo_thumbnail_url VARCHAR(1000) NULL,
+    ADD COLUMN photo_card_url VARCHAR(1000) NULL,
+    ADD COLUMN photo_web_url VARCHAR(1000) NULL;
+
+ALTER TABLE articles
+    ADD COLUMN cover_photo_card_url VARCHAR(1000) NULL;
+
+ALTER TABLE users
+    ADD COLUMN profile_image_thumbnail_url VARCHAR(1000) NULL;
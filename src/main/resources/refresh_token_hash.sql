@@ -0,0 +1,16 @@
+-- 리프레시 토큰을 원문(token) 대신 SHA-256 다이제스트(token_hash)로 저장하고 고유 인덱스로 조회
+-- SHA2(token, 256) 은 TokenDigest.sha256Hex 와 같은 소문자 16진수 64자
+
+ALTER TABLE refresh_tokens ADD COLUMN token_hash CHAR(64) NULL;
+
+UPDATE refresh_tokens SET token_hash = SHA2(token, 256);
+
+-- 같은 토큰이 여러 행에 저장된 경우 가장 최근 행만 남김
+DELETE t1 FROM refresh_tokens t1
+    JOIN refresh_tokens t2 ON t1.token_hash = t2.token_hash AND t1.id < t2.id;
+
+ALTER TABLE refresh_tokens
+    MODIFY COLUMN token_hash CHAR(64) NOT NULL,
+    DROP COLUMN token,
+    ADD CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash),
+    ADD INDEX idx_refresh_tokens_email (email);
@@ -0,0 +1,10 @@
+-- 만료 리프레시 토큰 배치 삭제용 인덱스와 예약 작업 임대(lease) 테이블
+
+ALTER TABLE refresh_tokens ADD INDEX idx_refresh_tokens_expires_at (expires_at);
+
+CREATE TABLE scheduler_locks (
+    lock_name VARCHAR(64) NOT NULL,
+    locked_until DATETIME(6) NOT NULL,
+    locked_by VARCHAR(255) NOT NULL,
+    PRIMARY KEY (lock_name)
+);
@@ -0,0 +1,13 @@
+-- 내용 해시 기반 파일 저장소의 참조 수 테이블
+-- 기존(UUID 경로) 파일은 이 테이블에 없으며, 참조 해제 시 바로 삭제 예약됨
+
+CREATE TABLE stored_files (
+    stored_file_id BIGINT NOT NULL AUTO_INCREMENT,
+    file_key VARCHAR(255) NOT NULL,
+    file_url VARCHAR(500) NOT NULL,
+    ref_count INT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (stored_file_id),
+    CONSTRAINT uk_stored_files_file_key UNIQUE (file_key),
+    CONSTRAINT uk_stored_files_file_url UNIQUE (file_url)
+);
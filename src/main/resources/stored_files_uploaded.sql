@@ -0,0 +1,4 @@
+-- 내용 해시 기반 파일의 업로드 완료 여부 (새 행은 FALSE 로 추가되고 업로드 완료 후 TRUE 로 변경됨)
+-- 기존 행은 완료로 간주
+
+ALTER TABLE stored_files ADD COLUMN uploaded BOOLEAN NOT NULL DEFAULT TRUE;
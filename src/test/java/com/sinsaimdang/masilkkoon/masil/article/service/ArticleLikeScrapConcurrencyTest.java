@@ -0,0 +1,201 @@
+package com.sinsaimdang.masilkkoon.masil.article.service;
+
+import com.sinsaimdang.masilkkoon.masil.article.entity.Article;
+import com.sinsaimdang.masilkkoon.masil.article.repository.ArticleLikeRepository;
+import com.sinsaimdang.masilkkoon.masil.article.repository.ArticleRepository;
+import com.sinsaimdang.masilkkoon.masil.article.repository.ArticleScrapRepository;
+import com.sinsaimdang.masilkkoon.masil.region.entity.Region;
+import com.sinsaimdang.masilkkoon.masil.region.repository.RegionRepository;
+import com.sinsaimdang.masilkkoon.masil.user.entity.User;
+import com.sinsaimdang.masilkkoon.masil.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요/스크랩 수 원자적 갱신(UPDATE ... SET count = count + 1)과 멱등 토글 검증<br>
+ * 동시 요청이 실제로 겹치도록 트랜잭션 없이 커밋된 데이터로 실행합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+class ArticleLikeScrapConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private ArticleService articleService;
+    @Autowired
+    private ArticleRepository articleRepository;
+    @Autowired
+    private ArticleLikeRepository articleLikeRepository;
+    @Autowired
+    private ArticleScrapRepository articleScrapRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RegionRepository regionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long articleId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO regions (name) VALUES ('서울')");
+        Region region = regionRepository.findAll().get(0);
+
+        for (int i = 0; i < THREADS; i++) {
+            User user = userRepository.save(User.builder()
+                    .email("user" + i + "@test.com")
+                    .password("pw")
+                    .name("유저" + i)
+                    .nickname("닉네임" + i)
+                    .build());
+            userIds.add(user.getId());
+        }
+
+        User author = userRepository.findById(userIds.get(0)).orElseThrow();
+        articleId = articleRepository.save(new Article("제목", "내용", author, region, Set.of(), List.of())).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        articleLikeRepository.deleteAllInBatch();
+        articleScrapRepository.deleteAllInBatch();
+        articleRepository.deleteAll();
+        userRepository.deleteAllInBatch();
+        regionRepository.deleteAllInBatch();
+        userIds.clear();
+    }
+
+    @Test
+    @DisplayName("서로 다른 사용자 N 명이 동시에 좋아요를 누르면 좋아요 수는 정확히 N")
+    void concurrentLikes() throws Exception {
+        runConcurrently(userIds.stream()
+                .map(userId -> (Callable<Void>) () -> {
+                    articleService.addLike(userId, articleId);
+                    return null;
+                })
+                .toList());
+
+        assertThat(likeCount()).isEqualTo(THREADS);
+        assertThat(articleLikeRepository.count()).isEqualTo(THREADS);
+    }
+
+    @Test
+    @DisplayName("서로 다른 사용자 N 명이 동시에 스크랩하고 취소하면 스크랩 수는 N 이었다가 0")
+    void concurrentScraps() throws Exception {
+        runConcurrently(userIds.stream()
+                .map(userId -> (Callable<Void>) () -> {
+                    articleService.addScrap(userId, articleId);
+                    return null;
+                })
+                .toList());
+        assertThat(scrapCount()).isEqualTo(THREADS);
+
+        runConcurrently(userIds.stream()
+                .map(userId -> (Callable<Void>) () -> {
+                    articleService.removeScrap(userId, articleId);
+                    return null;
+                })
+                .toList());
+        assertThat(scrapCount()).isZero();
+        assertThat(articleScrapRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 좋아요를 두 번 누르면 한 번만 증가하고, 두 번 취소해도 0 아래로 내려가지 않음")
+    void idempotentLikeToggle() {
+        Long userId = userIds.get(1);
+
+        articleService.addLike(userId, articleId);
+        articleService.addLike(userId, articleId);
+        assertThat(likeCount()).isEqualTo(1);
+
+        articleService.removeLike(userId, articleId);
+        articleService.removeLike(userId, articleId);
+        assertThat(likeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 동시에 좋아요를 여러 번 눌러도 한 번만 증가")
+    void concurrentDuplicateLikes() throws Exception {
+        Long userId = userIds.get(1);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> {
+                articleService.addLike(userId, articleId);
+                return null;
+            });
+        }
+
+        runConcurrently(tasks);
+
+        assertThat(likeCount()).isEqualTo(1);
+        assertThat(articleLikeRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 스크랩을 두 번 하면 한 번만 증가하고, 두 번 취소해도 0 아래로 내려가지 않음")
+    void idempotentScrapToggle() {
+        Long userId = userIds.get(1);
+
+        articleService.removeScrap(userId, articleId);
+        assertThat(scrapCount()).isZero();
+
+        articleService.addScrap(userId, articleId);
+        articleService.addScrap(userId, articleId);
+        assertThat(scrapCount()).isEqualTo(1);
+
+        articleService.removeScrap(userId, articleId);
+        articleService.removeScrap(userId, articleId);
+        assertThat(scrapCount()).isZero();
+    }
+
+    private int likeCount() {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM articles WHERE article_id = ?", Integer.class, articleId);
+    }
+
+    private int scrapCount() {
+        return jdbcTemplate.queryForObject("SELECT scrap_count FROM articles WHERE article_id = ?", Integer.class, articleId);
+    }
+
+    // 모든 작업을 동시에 시작하고, 하나라도 실패하면 예외
+    private static void runConcurrently(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.sinsaimdang.masilkkoon.masil.article.service;
+
+import com.sinsaimdang.masilkkoon.masil.article.dto.ArticleSearchCondition;
+import com.sinsaimdang.masilkkoon.masil.article.entity.Article;
+import com.sinsaimdang.masilkkoon.masil.article.entity.ArticlePlace;
+import com.sinsaimdang.masilkkoon.masil.article.entity.ArticleTag;
+import com.sinsaimdang.masilkkoon.masil.article.repository.ArticleLikeRepository;
+import com.sinsaimdang.masilkkoon.masil.article.repository.ArticleRepository;
+import com.sinsaimdang.masilkkoon.masil.article.repository.ArticleScrapRepository;
+import com.sinsaimdang.masilkkoon.masil.region.entity.Region;
+import com.sinsaimdang.masilkkoon.masil.region.repository.RegionRepository;
+import com.sinsaimdang.masilkkoon.masil.user.entity.User;
+import com.sinsaimdang.masilkkoon.masil.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 조회의 SQL 실행 횟수가 페이지 크기와 무관하게 일정한지 검증 (게시글마다 태그/장소/좋아요 조회가 추가되지 않음)<br>
+ * 전체 개수와 좋아요/스크랩 여부는 캐시되므로, 다른 크기로 한 번 조회하여 캐시를 채운 뒤 크기별 첫 조회를 비교합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("local")
+class ArticleListQueryCountTest {
+
+    private static final int ARTICLES = 30;
+
+    @Autowired
+    private ArticleService articleService;
+    @Autowired
+    private ArticleRepository articleRepository;
+    @Autowired
+    private ArticleLikeRepository articleLikeRepository;
+    @Autowired
+    private ArticleScrapRepository articleScrapRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RegionRepository regionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long authorId;
+    private Long viewerId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        jdbcTemplate.update("INSERT INTO regions (name) VALUES ('서울')");
+        Region region = regionRepository.findAll().get(0);
+        User author = userRepository.save(User.builder()
+                .email("author@test.com").password("pw").name("작성자").nickname("작성자").build());
+        User viewer = userRepository.save(User.builder()
+                .email("viewer@test.com").password("pw").name("조회자").nickname("조회자").build());
+        authorId = author.getId();
+        viewerId = viewer.getId();
+
+        for (int i = 0; i < ARTICLES; i++) {
+            List<ArticlePlace> places = List.of(
+                    new ArticlePlace(1, "장소" + i + "-1", "서울 주소 1", "설명", "https://test.com/" + i + "-1.jpg"),
+                    new ArticlePlace(2, "장소" + i + "-2", "서울 주소 2", "설명", null));
+            Article article = articleRepository.save(new Article("제목" + i, "내용" + i, author, region,
+                    Set.of(ArticleTag.TRAVEL_SPOT, ArticleTag.CAFE), places));
+            articleService.addScrap(viewerId, article.getId());
+            if (i % 2 == 0) {
+                articleService.addLike(viewerId, article.getId());
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        articleLikeRepository.deleteAllInBatch();
+        articleScrapRepository.deleteAllInBatch();
+        articleRepository.deleteAll();
+        userRepository.deleteAllInBatch();
+        regionRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 SQL 수는 페이지 크기 1과 20에서 같음")
+    void searchArticles() {
+        ArticleSearchCondition condition = new ArticleSearchCondition();
+
+        assertSameStatementCount(pageable -> articleService.searchArticles(condition, pageable, viewerId));
+    }
+
+    @Test
+    @DisplayName("스크랩 목록 조회 SQL 수는 페이지 크기 1과 20에서 같음")
+    void getScrapedArticles() {
+        ArticleSearchCondition condition = new ArticleSearchCondition();
+
+        assertSameStatementCount(pageable -> articleService.getScrapedArticles(viewerId, condition, pageable));
+    }
+
+    @Test
+    @DisplayName("사용자 작성 게시글 목록 조회 SQL 수는 페이지 크기 1과 20에서 같음")
+    void findArticlesByUserId() {
+        assertSameStatementCount(pageable -> articleService.findArticlesByUserId(authorId, viewerId, pageable));
+    }
+
+    private void assertSameStatementCount(Function<Pageable, ?> listQuery) {
+        listQuery.apply(page(5)); // 전체 개수, 좋아요/스크랩 캐시 적재
+
+        long single = countStatements(listQuery, page(1));
+        long full = countStatements(listQuery, page(20));
+
+        assertThat(single).isPositive();
+        assertThat(full).isEqualTo(single);
+    }
+
+    private long countStatements(Function<Pageable, ?> listQuery, Pageable pageable) {
+        statistics.clear();
+        listQuery.apply(pageable);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static Pageable page(int size) {
+        return PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+}
@@ -0,0 +1,75 @@
+package com.sinsaimdang.masilkkoon.masil.auth.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static com.sinsaimdang.masilkkoon.masil.auth.filter.AuthRouteMatcher.ANY_METHOD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthRouteMatcherTest {
+
+    private final AuthRouteMatcher matcher = AuthRouteMatcher.builder(AuthRequirement.REQUIRED)
+            .rule(ANY_METHOD, "/public/**", AuthRequirement.PUBLIC)
+            .rule("GET", "/items/**", AuthRequirement.OPTIONAL)
+            .rule("POST", "/items/{id}/open", AuthRequirement.PUBLIC)
+            .rule("GET", "/users/{id}/profile", AuthRequirement.OPTIONAL)
+            .rule("GET", "/users/me/profile", AuthRequirement.PUBLIC)
+            .build();
+
+    @ParameterizedTest(name = "{0} {1} -> {2}")
+    @CsvSource({
+            // ** 는 해당 경로와 하위 경로 전체
+            "GET,    /public,                PUBLIC",
+            "POST,   /public/a/b/c,          PUBLIC",
+            "DELETE, /public/a,              PUBLIC",
+            // 세그먼트 단위 일치 (접두사 문자열 일치 아님)
+            "GET,    /publicx,               REQUIRED",
+            "GET,    /itemsx,                REQUIRED",
+            // 메서드별 규칙
+            "GET,    /items,                 OPTIONAL",
+            "GET,    /items/1/comments,      OPTIONAL",
+            "POST,   /items,                 REQUIRED",
+            // 정확히 일치하는 규칙이 ** 규칙보다 우선
+            "POST,   /items/7/open,          PUBLIC",
+            "GET,    /items/7/open,          OPTIONAL",
+            // {id} 는 숫자 세그먼트 하나
+            "GET,    /users/42/profile,      OPTIONAL",
+            "GET,    /users/abc/profile,     REQUIRED",
+            "GET,    /users/42/profile/more, REQUIRED",
+            "GET,    /users/42,              REQUIRED",
+            // 일반 세그먼트가 {id} 보다 우선
+            "GET,    /users/me/profile,      PUBLIC",
+            // 빈 세그먼트 무시
+            "GET,    /users/42/profile/,     OPTIONAL",
+            "GET,    //users//42/profile,    OPTIONAL",
+            "GET,    /,                      REQUIRED",
+            "GET,    '',                     REQUIRED",
+            // 알 수 없는 메서드는 모든 메서드 규칙만 적용
+            "HEAD,   /public/a,              PUBLIC",
+            "HEAD,   /items,                 REQUIRED",
+    })
+    void match(String method, String path, AuthRequirement expected) {
+        assertThat(matcher.match(method, path)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("같은 메서드와 패턴의 규칙을 중복 등록하면 예외")
+    void duplicateRule() {
+        AuthRouteMatcher.Builder builder = AuthRouteMatcher.builder(AuthRequirement.REQUIRED)
+                .rule("GET", "/a/{id}", AuthRequirement.PUBLIC);
+
+        assertThatThrownBy(() -> builder.rule("GET", "/a/{id}/", AuthRequirement.OPTIONAL))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("** 는 패턴의 마지막에만 사용 가능")
+    void descendantsMustBeLast() {
+        assertThatThrownBy(() -> AuthRouteMatcher.builder(AuthRequirement.REQUIRED)
+                .rule("GET", "/a/**/b", AuthRequirement.PUBLIC))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
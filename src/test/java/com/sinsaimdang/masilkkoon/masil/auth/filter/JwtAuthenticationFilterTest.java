@@ -0,0 +1,141 @@
+package com.sinsaimdang.masilkkoon.masil.auth.filter;
+
+import com.sinsaimdang.masilkkoon.masil.auth.service.VerifiedTokenCache;
+import io.jsonwebtoken.MalformedJwtException;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    /**
+     * 모든 컨트롤러 경로의 인증 요구 수준
+     */
+    @ParameterizedTest(name = "{0} {1} -> {2}")
+    @CsvSource({
+            // AuthController
+            "POST,   /api/auth/signup,                PUBLIC",
+            "POST,   /api/auth/login,                 PUBLIC",
+            "POST,   /api/auth/logout,                REQUIRED",
+            "POST,   /api/auth/refresh,               PUBLIC",
+            "GET,    /api/auth/check-email,           PUBLIC",
+            "GET,    /api/auth/check-nickname,        PUBLIC",
+            // DirectionsController
+            "GET,    /api/directions,                 PUBLIC",
+            // ArticleController
+            "GET,    /api/articles,                   OPTIONAL",
+            "GET,    /api/articles/scroll,            OPTIONAL",
+            "GET,    /api/articles/1,                 OPTIONAL",
+            "POST,   /api/articles,                   REQUIRED",
+            "PUT,    /api/articles/1,                 REQUIRED",
+            "DELETE, /api/articles/1,                 REQUIRED",
+            "POST,   /api/articles/1/likes,           REQUIRED",
+            "DELETE, /api/articles/1/likes,           REQUIRED",
+            "POST,   /api/articles/1/scraps,          REQUIRED",
+            "DELETE, /api/articles/1/scraps,          REQUIRED",
+            // UserController
+            "GET,    /api/user/me,                    REQUIRED",
+            "DELETE, /api/user/me,                    REQUIRED",
+            "GET,    /api/user/1/profile,             OPTIONAL",
+            "GET,    /api/user/1/articles,            OPTIONAL",
+            "GET,    /api/user/scraps,                REQUIRED",
+            "PATCH,  /api/user/nickname,              REQUIRED",
+            "PATCH,  /api/user/password,              REQUIRED",
+            "POST,   /api/user/profile-image,         REQUIRED",
+            "DELETE, /api/user/profile-image,         REQUIRED",
+            // FollowController
+            "POST,   /api/user/1/follow,              REQUIRED",
+            "DELETE, /api/user/1/follow,              REQUIRED",
+            "GET,    /api/user/1/follow-status,       REQUIRED",
+            "GET,    /api/user/1/follow-info,         REQUIRED",
+            "GET,    /api/user/1/followers,           OPTIONAL",
+            "GET,    /api/user/1/followings,          OPTIONAL",
+            // VisitController
+            "POST,   /api/location/verify,            REQUIRED",
+            "GET,    /api/location/stamp/map,         REQUIRED",
+            // 경계 사례
+            "GET,    /api/articlesx,                  REQUIRED",
+            "GET,    /api/user/abc/profile,           REQUIRED",
+            "POST,   /api/user/1/profile,             REQUIRED",
+            "GET,    /api/auth/loginx,                REQUIRED",
+            "GET,    /api/articles/,                  OPTIONAL",
+            "GET,    //api//articles,                 OPTIONAL",
+            "GET,    /api/user/1/profile/,            OPTIONAL",
+            "POST,   /api/auth//login/,               PUBLIC",
+            "GET,    /actuator/metrics,               REQUIRED",
+            "GET,    /,                               REQUIRED",
+    })
+    void routeRules(String method, String path, AuthRequirement expected) {
+        assertThat(JwtAuthenticationFilter.AUTH_ROUTES.match(method, path)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("OPTIONS 요청은 인증 필요 경로여도 토큰 없이 통과")
+    void optionsPassesWithoutToken() throws Exception {
+        VerifiedTokenCache verifiedTokenCache = mock(VerifiedTokenCache.class);
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/api/user/me");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new JwtAuthenticationFilter(verifiedTokenCache).doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        verify(verifiedTokenCache, never()).verify(anyString());
+    }
+
+    @Test
+    @DisplayName("인증 필요 경로에 토큰이 없으면 401")
+    void requiredWithoutToken() throws Exception {
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new JwtAuthenticationFilter(mock(VerifiedTokenCache.class))
+                .doFilter(new MockHttpServletRequest("GET", "/api/user/1/follow-info"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("선택 인증 경로는 유효하지 않은 토큰이면 비로그인 사용자로 통과")
+    void optionalWithInvalidToken() throws Exception {
+        VerifiedTokenCache verifiedTokenCache = mock(VerifiedTokenCache.class);
+        when(verifiedTokenCache.verify("bad")).thenThrow(new MalformedJwtException("bad"));
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles/1");
+        request.addHeader("Authorization", "Bearer bad");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new JwtAuthenticationFilter(verifiedTokenCache).doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        assertThat(request.getAttribute("currentUserId")).isNull();
+    }
+
+    @Test
+    @DisplayName("공개 경로는 토큰을 확인하지 않음")
+    void publicSkipsVerification() throws Exception {
+        VerifiedTokenCache verifiedTokenCache = mock(VerifiedTokenCache.class);
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.addHeader("Authorization", "Bearer token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new JwtAuthenticationFilter(verifiedTokenCache).doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        verify(verifiedTokenCache, never()).verify(anyString());
+    }
+}
@@ -0,0 +1,106 @@
+package com.sinsaimdang.masilkkoon.masil.auth.service;
+
+import com.sinsaimdang.masilkkoon.masil.auth.repository.AccessTokenRevocationRepository;
+import com.sinsaimdang.masilkkoon.masil.auth.util.JwtUtil;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로그아웃에 따른 Access Token 폐기가 DB 를 통해 다른 서버에도 적용되는지 검증<br>
+ * 같은 DB 를 쓰는 두 서버를 VerifiedTokenCache 인스턴스 두 개로 흉내 냅니다.
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+class VerifiedTokenCacheRevocationTest {
+
+    private static final String EMAIL = "user@test.com";
+
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private AccessTokenRevocationRepository revocationRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Value("${jwt.access-token-expiration}")
+    private long accessTokenExpirationMs;
+
+    private VerifiedTokenCache nodeA;
+    private VerifiedTokenCache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = newNode();
+        nodeB = newNode();
+        nodeA.syncRevocations();
+        nodeB.syncRevocations();
+    }
+
+    @AfterEach
+    void tearDown() {
+        revocationRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("한 서버에서 로그아웃하면 그 서버는 바로, 다른 서버는 동기화 이후 로그아웃 이전 토큰을 거부")
+    void revocationIsSharedThroughDatabase() throws InterruptedException {
+        String token = jwtUtil.generateAccessToken(1L, EMAIL, "이름", "닉네임", "USER");
+        assertThat(nodeA.verify(token).getUserEmail()).isEqualTo(EMAIL);
+        assertThat(nodeB.verify(token).getUserEmail()).isEqualTo(EMAIL); // 캐시됨
+
+        Thread.sleep(1100); // 발급 시각(iat)은 초 단위이므로 다음 초에 로그아웃
+        transactionTemplate.executeWithoutResult(status -> nodeA.revokeUser(EMAIL));
+
+        assertThatThrownBy(() -> nodeA.verify(token)).isInstanceOf(JwtException.class);
+        assertThat(nodeB.verify(token).getUserEmail()).isEqualTo(EMAIL); // 동기화 전
+
+        nodeB.syncRevocations();
+        assertThatThrownBy(() -> nodeB.verify(token)).isInstanceOf(JwtException.class);
+
+        // 새로 시작한 서버도 유효 기간 안의 로그아웃 기록을 읽음
+        VerifiedTokenCache restarted = newNode();
+        restarted.syncRevocations();
+        assertThatThrownBy(() -> restarted.verify(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("로그아웃 이후 발급된 토큰은 모든 서버에서 허용")
+    void tokenIssuedAfterLogoutIsAccepted() throws InterruptedException {
+        transactionTemplate.executeWithoutResult(status -> nodeA.revokeUser(EMAIL));
+        Thread.sleep(1100);
+        String token = jwtUtil.generateAccessToken(1L, EMAIL, "이름", "닉네임", "USER");
+
+        nodeB.syncRevocations();
+        assertThat(nodeA.verify(token).getUserEmail()).isEqualTo(EMAIL);
+        assertThat(nodeB.verify(token).getUserEmail()).isEqualTo(EMAIL);
+    }
+
+    @Test
+    @DisplayName("롤백된 로그아웃은 기록되지 않음")
+    void rolledBackLogoutIsNotApplied() {
+        String token = jwtUtil.generateAccessToken(1L, EMAIL, "이름", "닉네임", "USER");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            nodeA.revokeUser(EMAIL);
+            status.setRollbackOnly();
+        });
+
+        assertThat(revocationRepository.count()).isZero();
+        assertThat(nodeA.verify(token).getUserEmail()).isEqualTo(EMAIL);
+    }
+
+    private VerifiedTokenCache newNode() {
+        return new VerifiedTokenCache(jwtUtil, revocationRepository, new SimpleMeterRegistry(), 1000, accessTokenExpirationMs);
+    }
+}
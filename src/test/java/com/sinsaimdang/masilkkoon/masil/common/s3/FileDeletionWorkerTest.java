@@ -0,0 +1,119 @@
+package com.sinsaimdang.masilkkoon.masil.common.s3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 삭제 아웃박스 처리 검증 (저장소와 리포지토리는 목으로 대체)<br>
+ * 다시 참조된 URL 은 삭제하지 않고 항목만 제거하는지, 실패한 항목은 지수 간격으로 재시도하다 최대 횟수에서 포기하는지 확인합니다.
+ */
+class FileDeletionWorkerTest {
+
+    private static final int BATCH_SIZE = 20;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BASE_SECONDS = 30;
+
+    private Uploader uploader;
+    private FileDeletionRepository fileDeletionRepository;
+    private StoredFileRepository storedFileRepository;
+    private FileDeletionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        uploader = mock(Uploader.class);
+        fileDeletionRepository = mock(FileDeletionRepository.class);
+        storedFileRepository = mock(StoredFileRepository.class);
+        worker = new FileDeletionWorker(uploader, fileDeletionRepository, storedFileRepository,
+                mock(PlatformTransactionManager.class), BATCH_SIZE, MAX_ATTEMPTS, RETRY_BASE_SECONDS);
+    }
+
+    @Test
+    @DisplayName("다시 참조된 URL 은 원격 삭제하지 않고 아웃박스 항목만 제거")
+    void skipsReReferencedUrl() {
+        FileDeletion orphan = new FileDeletion("https://bucket/article-images/a.jpg");
+        FileDeletion reReferenced = new FileDeletion("https://bucket/article-images/b.jpg");
+        when(fileDeletionRepository.lockDue(any(), anyInt())).thenReturn(List.of(orphan, reReferenced));
+        when(storedFileRepository.lockReferencedUrls(anyCollection())).thenReturn(List.of(reReferenced.getFileUrl()));
+        when(uploader.deleteAll(anyCollection())).thenReturn(Set.of());
+
+        worker.drain();
+
+        verify(uploader).deleteAll(List.of(orphan.getFileUrl()));
+        assertThat(completed()).containsExactlyInAnyOrder(orphan, reReferenced);
+    }
+
+    @Test
+    @DisplayName("모든 URL 이 다시 참조되었으면 원격 삭제 요청을 보내지 않음")
+    void noRemoteCallWhenAllReReferenced() {
+        FileDeletion reReferenced = new FileDeletion("https://bucket/article-images/b.jpg");
+        when(fileDeletionRepository.lockDue(any(), anyInt())).thenReturn(List.of(reReferenced));
+        when(storedFileRepository.lockReferencedUrls(anyCollection())).thenReturn(List.of(reReferenced.getFileUrl()));
+
+        worker.drain();
+
+        verify(uploader, never()).deleteAll(anyCollection());
+        assertThat(completed()).containsExactly(reReferenced);
+    }
+
+    @Test
+    @DisplayName("삭제에 실패한 항목은 남겨 두고 시도 횟수에 따라 두 배씩 늘어난 간격 뒤에 재시도")
+    void failedDeletionIsRetriedWithBackoff() {
+        FileDeletion first = new FileDeletion("https://bucket/article-images/a.jpg");
+        FileDeletion second = new FileDeletion("https://bucket/article-images/b.jpg");
+        second.scheduleRetry(LocalDateTime.now()); // 이미 한 번 실패한 항목
+        when(fileDeletionRepository.lockDue(any(), anyInt())).thenReturn(List.of(first, second));
+        when(storedFileRepository.lockReferencedUrls(anyCollection())).thenReturn(List.of());
+        when(uploader.deleteAll(anyCollection())).thenReturn(Set.of(first.getFileUrl(), second.getFileUrl()));
+
+        LocalDateTime before = LocalDateTime.now();
+        worker.drain();
+        LocalDateTime after = LocalDateTime.now();
+
+        assertThat(completed()).isEmpty();
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getNextAttemptAt()).isBetween(before.plusSeconds(RETRY_BASE_SECONDS), after.plusSeconds(RETRY_BASE_SECONDS));
+        assertThat(second.getAttempts()).isEqualTo(2);
+        assertThat(second.getNextAttemptAt()).isBetween(before.plusSeconds(RETRY_BASE_SECONDS * 2), after.plusSeconds(RETRY_BASE_SECONDS * 2));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달한 항목은 재시도하지 않고 제거")
+    void givesUpAfterMaxAttempts() {
+        FileDeletion exhausted = new FileDeletion("https://bucket/article-images/a.jpg");
+        for (int i = 0; i < MAX_ATTEMPTS - 1; i++) {
+            exhausted.scheduleRetry(LocalDateTime.now());
+        }
+        when(fileDeletionRepository.lockDue(any(), anyInt())).thenReturn(List.of(exhausted));
+        when(storedFileRepository.lockReferencedUrls(anyCollection())).thenReturn(List.of());
+        when(uploader.deleteAll(anyCollection())).thenReturn(Set.of(exhausted.getFileUrl()));
+
+        worker.drain();
+
+        assertThat(completed()).containsExactly(exhausted);
+        assertThat(exhausted.getAttempts()).isEqualTo(MAX_ATTEMPTS - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<FileDeletion> completed() {
+        ArgumentCaptor<Iterable<FileDeletion>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(fileDeletionRepository).deleteAllInBatch(captor.capture());
+        return (Collection<FileDeletion>) captor.getValue();
+    }
+}
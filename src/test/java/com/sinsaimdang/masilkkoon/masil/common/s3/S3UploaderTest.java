@@ -0,0 +1,150 @@
+package com.sinsaimdang.masilkkoon.masil.common.s3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.net.URL;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * S3 스트리밍 업로드 검증 (AmazonS3 클라이언트를 목으로 대체, TransferManager 는 실제 구현 사용)<br>
+ * 메타데이터에 길이/타입이 설정되는지, 임계값에 따라 단일/멀티파트 업로드가 나뉘는지,
+ * 요청 본문을 힙이나 임시 파일로 복사하지 않고 스트림으로 넘기는지 확인합니다.
+ */
+class S3UploaderTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final long THRESHOLD = 1024;
+    private static final long PART_SIZE = 1024;
+
+    private AmazonS3 amazonS3;
+    private S3Uploader s3Uploader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        amazonS3 = mock(AmazonS3.class);
+        when(amazonS3.getUrl(eq(BUCKET), anyString())).thenAnswer(invocation ->
+                new URL("https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/" + invocation.getArgument(1)));
+        when(amazonS3.putObject(any(PutObjectRequest.class))).thenReturn(new PutObjectResult());
+
+        InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+        initiated.setUploadId("upload-id");
+        when(amazonS3.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiated);
+        when(amazonS3.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+        when(amazonS3.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenReturn(new CompleteMultipartUploadResult());
+
+        s3Uploader = new S3Uploader(amazonS3, THRESHOLD, PART_SIZE);
+        ReflectionTestUtils.setField(s3Uploader, "bucket", BUCKET);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Uploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("임계값보다 작은 파일은 길이와 타입을 지정한 단일 PUT 으로 요청 스트림을 그대로 전송")
+    void smallFileUsesSinglePut() throws Exception {
+        MockMultipartFile file = spy(new MockMultipartFile("image", "photo.jpg", "image/jpeg", new byte[100]));
+
+        String url = s3Uploader.upload(file, "article-images");
+
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3).putObject(captor.capture());
+        PutObjectRequest request = captor.getValue();
+        assertThat(request.getBucketName()).isEqualTo(BUCKET);
+        assertThat(request.getKey()).startsWith("article-images/").endsWith("_photo.jpg");
+        assertThat(request.getMetadata().getContentLength()).isEqualTo(100);
+        assertThat(request.getMetadata().getContentType()).isEqualTo("image/jpeg");
+        assertThat(request.getFile()).isNull();
+        assertThat(request.getInputStream()).isNotNull();
+        assertThat(url).endsWith(request.getKey());
+
+        verify(amazonS3, never()).initiateMultipartUpload(any());
+        assertNoCopy(file);
+    }
+
+    @Test
+    @DisplayName("임계값 이상인 파일은 스트림을 파트 크기로 나눠 멀티파트 업로드")
+    void largeFileUsesMultipartUpload() throws Exception {
+        int size = (int) (PART_SIZE * 2 + 100);
+        MockMultipartFile file = spy(new MockMultipartFile("image", "large.png", "image/png", new byte[size]));
+
+        s3Uploader.upload(file, "article-images");
+
+        ArgumentCaptor<InitiateMultipartUploadRequest> initiateCaptor = ArgumentCaptor.forClass(InitiateMultipartUploadRequest.class);
+        verify(amazonS3).initiateMultipartUpload(initiateCaptor.capture());
+        assertThat(initiateCaptor.getValue().getObjectMetadata().getContentType()).isEqualTo("image/png");
+
+        ArgumentCaptor<UploadPartRequest> partCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(amazonS3, atLeastOnce()).uploadPart(partCaptor.capture());
+        List<UploadPartRequest> parts = partCaptor.getAllValues();
+        assertThat(parts).hasSize(3);
+        assertThat(parts).allSatisfy(part -> {
+            assertThat(part.getFile()).isNull();
+            assertThat(part.getInputStream()).isNotNull();
+        });
+        assertThat(parts.stream().mapToLong(UploadPartRequest::getPartSize).sum()).isEqualTo(size);
+
+        verify(amazonS3).completeMultipartUpload(any());
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+        assertNoCopy(file);
+    }
+
+    @Test
+    @DisplayName("서버에서 만든 스트림도 주어진 경로에 길이와 타입을 지정하여 업로드")
+    void uploadToPathSetsMetadata() throws Exception {
+        byte[] content = new byte[300];
+
+        String url = s3Uploader.uploadToPath(new ByteArrayInputStream(content), content.length, "image/webp",
+                "article-images/variants/abc.webp");
+
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3).putObject(captor.capture());
+        assertThat(captor.getValue().getKey()).isEqualTo("article-images/variants/abc.webp");
+        assertThat(captor.getValue().getMetadata().getContentLength()).isEqualTo(300);
+        assertThat(captor.getValue().getMetadata().getContentType()).isEqualTo("image/webp");
+        assertThat(captor.getValue().getFile()).isNull();
+        assertThat(url).isEqualTo("https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/article-images/variants/abc.webp");
+    }
+
+    // 업로드 파일을 임시 파일로 옮기거나 바이트 배열로 읽지 않음
+    private static void assertNoCopy(MockMultipartFile file) throws Exception {
+        verify(file, never()).transferTo(any(File.class));
+        verify(file, never()).getBytes();
+    }
+}